@@ -0,0 +1,54 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenDenylist;
+import com.example.demo.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터 한 번 통과 비용 (검증된 토큰 캐시 사용/미사용)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(meterRegistry, JwtBenchmark.SECRET, 900_000L, 604_800_000L);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(meterRegistry, cacheEnabled, 10_000, Duration.ofMinutes(15));
+        TokenDenylist tokenDenylist = new TokenDenylist(meterRegistry, 900_000L, 100_000, "");
+        filter = new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache, tokenDenylist, meterRegistry, Set.of());
+
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateAccessToken(1L, "benchmark-user", "benchmark-session"));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
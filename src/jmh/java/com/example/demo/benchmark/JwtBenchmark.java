@@ -0,0 +1,40 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT 발급/검증 비용 (HS512)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry(), SECRET, 900_000L, 604_800_000L);
+        accessToken = jwtUtil.generateAccessToken(1L, "benchmark-user", "benchmark-session");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1L, "benchmark-user", "benchmark-session");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(accessToken);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.UserPageResponseDto;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.entity.User;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 → DTO 변환과 JSON 직렬화 (단건 / 한 페이지 / 필드 선택 페이지 / Smile)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDtoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper smileMapper;
+    private User user;
+    private UserResponseDto userResponse;
+    private UserPageResponseDto<UserResponseDto> page;
+    private UserPageResponseDto<Map<String, Object>> sparsePage;  // fields=userId,name
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        smileMapper = SmileMapper.builder().build();
+        user = createUser(1L);
+        userResponse = new UserResponseDto(user);
+
+        List<UserResponseDto> users = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            users.add(new UserResponseDto(createUser(i)));
+        }
+        page = new UserPageResponseDto<>(users, "MjA", true);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (UserResponseDto response : users) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("userIndex", response.getUserIndex());
+            row.put("userId", response.getUserId());
+            row.put("name", response.getName());
+            rows.add(row);
+        }
+        sparsePage = new UserPageResponseDto<>(rows, "MjA", true);
+    }
+
+    private static User createUser(long userIndex) {
+        User user = new User();
+        user.setUserIndex(userIndex);
+        user.setUserId("user" + userIndex);
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuuZ0123456789abcdefghijklmnopqrstu");
+        user.setName("사용자" + userIndex);
+        user.setGender("M");
+        user.setPhone("010-0000-" + String.format("%04d", userIndex));
+        user.setEmail("user" + userIndex + "@example.com");
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        user.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 0, 0));
+        return user;
+    }
+
+    @Benchmark
+    public UserResponseDto toResponseDto() {
+        return new UserResponseDto(user);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageSmile() {
+        return smileMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSparsePage() {
+        return objectMapper.writeValueAsBytes(sparsePage);
+    }
+
+    @Benchmark
+    public byte[] serializeSparsePageSmile() {
+        return smileMapper.writeValueAsBytes(sparsePage);
+    }
+}
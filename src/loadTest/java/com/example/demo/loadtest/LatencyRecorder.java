@@ -0,0 +1,51 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+// 엔드포인트 하나의 응답 시간 기록 (스레드마다 하나씩 사용, 종료 후 병합)
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];  // 나노초
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latencies[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // 한 번 정렬 후 요청한 백분위들을 밀리초로 반환, 예: percentilesMillis(50, 99, 99.9)
+    double[] percentilesMillis(double... percentiles) {
+        double[] result = new double[percentiles.length];
+        if (count == 0) {
+            return result;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        for (int i = 0; i < percentiles.length; i++) {
+            int index = (int) Math.ceil(percentiles[i] / 100.0 * count) - 1;
+            result[i] = sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.UserImportResponseDto;
+import com.example.demo.dto.UserRequestDto;
+import com.example.demo.service.UserImportService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 (gradle loadTest)
+ * 1. 메모리 H2(MySQL 모드)로 실제 애플리케이션 실행
+ * 2. 사용자 N명 등록 후 전원 로그인
+ * 3. 여러 스레드에서 로그인/재발급/내 정보/사용자 조회/수정 요청을 섞어서 전송
+ * 4. 엔드포인트별 처리량(req/s)과 p50/p99/p99.9 응답 시간 출력 + JSON 저장
+ *
+ * 설정 (시스템 프로퍼티): loadtest.users, loadtest.threads, loadtest.warmup, loadtest.duration, loadtest.report,
+ * loadtest.virtual (true 면 서버를 가상 스레드 모드로 실행해 플랫폼 스레드 결과와 비교)
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final int SEED_CHUNK_SIZE = 1000;  // user.import.max-rows 기본값
+
+    // 요청 종류와 비율 (%)
+    enum Operation {
+        LOGIN("POST /api/auth/login", 5),
+        REFRESH("POST /api/auth/refresh", 10),
+        ME("GET /api/users/me", 35),
+        GET_USER("GET /api/users/{id}", 40),
+        UPDATE("PUT /api/users/{id}", 10);
+
+        final String label;
+        final int weight;
+
+        Operation(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {  // roll: 0~99
+            int sum = 0;
+            for (Operation operation : values()) {
+                sum += operation.weight;
+                if (roll < sum) {
+                    return operation;
+                }
+            }
+            return GET_USER;
+        }
+    }
+
+    // 가상 사용자 하나의 로그인 상태 (한 스레드만 사용)
+    static final class Session {
+        final String userId;
+        final int number;
+        Long userIndex;
+        String accessToken;
+        String refreshToken;
+        final Map<Long, String> etags = new HashMap<>();  // 조회한 사용자별 마지막 ETag (폴링 시 If-None-Match)
+
+        Session(String userId, int number) {
+            this.userId = userId;
+            this.number = number;
+        }
+    }
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int users = Integer.getInteger("loadtest.users", 200);
+    private final int threads = Integer.getInteger("loadtest.threads", 16);
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual");
+    private final Path reportFile = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/summary-platform.json"));
+
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    void run() throws Exception {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+
+        try (ConfigurableApplicationContext context = application.run(
+                "--spring.profiles.active=loadtest" + (virtualThreads ? ",virtual-threads" : ""))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+
+            List<Session> sessions = seedUsers(context.getBean(UserImportService.class));
+            for (Session session : sessions) {
+                login(session);
+            }
+            System.out.printf("사용자 %d명 준비 완료, 스레드 %d개, 워밍업 %ds, 측정 %ds, 서버 %s 스레드%n",
+                    users, threads, warmup.toSeconds(), duration.toSeconds(), threading());
+
+            drive(sessions, warmup);  // 결과 버림 (JIT/캐시/커넥션 풀 준비)
+            long start = System.nanoTime();
+            Map<Operation, LatencyRecorder> results = drive(sessions, duration);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            report(results, elapsedSeconds);
+        }
+    }
+
+    // 대량 등록 API 와 같은 경로(UserImportService)로 사용자 생성
+    private List<Session> seedUsers(UserImportService userImportService) {
+        List<UserRequestDto> rows = new ArrayList<>();
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            UserRequestDto row = new UserRequestDto();
+            row.setUserId(String.format("loaduser%06d", i));
+            row.setPassword(PASSWORD);
+            row.setName("부하" + i);
+            row.setGender(i % 2 == 0 ? "여성" : "남성");
+            row.setPhone(phone(i));
+            row.setEmail(row.getUserId() + "@loadtest.local");
+            rows.add(row);
+            sessions.add(new Session(row.getUserId(), i));
+        }
+
+        // 요청당 최대 행 수(user.import.max-rows) 이내로 나눠서 등록
+        for (int from = 0; from < rows.size(); from += SEED_CHUNK_SIZE) {
+            UserImportResponseDto result = userImportService.importUsers(
+                    rows.subList(from, Math.min(from + SEED_CHUNK_SIZE, rows.size())));
+            if (result.getFailed() > 0) {
+                throw new IllegalStateException("사용자 등록 실패: " + result.getFailed() + "건");
+            }
+        }
+        return sessions;
+    }
+
+    private static String phone(int number) {
+        return String.format("010-%04d-%04d", number / 10000, number % 10000);
+    }
+
+    // 스레드마다 세션을 나눠 가지고 duration 동안 요청 전송, 스레드별 기록을 병합해 반환
+    private Map<Operation, LatencyRecorder> drive(List<Session> sessions, Duration runFor) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + runFor.toNanos();
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            List<Session> owned = new ArrayList<>();
+            for (int i = t; i < sessions.size(); i += threads) {
+                owned.add(sessions.get(i));
+            }
+            futures.add(executor.submit(() -> worker(owned, sessions, deadline)));
+        }
+
+        Map<Operation, LatencyRecorder> merged = newRecorders();
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+        }
+        executor.shutdown();
+        return merged;
+    }
+
+    private Map<Operation, LatencyRecorder> worker(List<Session> owned, List<Session> all, long deadline) {
+        Map<Operation, LatencyRecorder> recorders = newRecorders();
+        if (owned.isEmpty()) {
+            return recorders;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Session session = owned.get(random.nextInt(owned.size()));
+            Operation operation = Operation.pick(random.nextInt(100));
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation, session, all.get(random.nextInt(all.size())));
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            recorders.get(operation).record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private boolean execute(Operation operation, Session session, Session other) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> login(session);
+            case REFRESH -> refresh(session);
+            case ME -> conditionalGet(session, "/api/users/me", session.userIndex);
+            case GET_USER -> conditionalGet(session, "/api/users/" + other.userIndex, other.userIndex);
+            case UPDATE -> update(session);
+        };
+    }
+
+    private boolean login(Session session) throws IOException, InterruptedException {
+        Map<String, Object> body = Map.of("userId", session.userId, "password", PASSWORD, "deviceId", "loadtest");
+        HttpResponse<String> response = send(json("/api/auth/login", body));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        session.accessToken = json.get("accessToken").asString();
+        session.refreshToken = json.get("refreshToken").asString();
+        if (session.userIndex == null) {
+            JsonNode me = objectMapper.readTree(send(authorized(session, "/api/users/me").GET()).body());
+            session.userIndex = me.get("userIndex").asLong();
+        }
+        return true;
+    }
+
+    private boolean refresh(Session session) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(json("/api/auth/refresh", Map.of("refreshToken", session.refreshToken)));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        session.accessToken = json.get("accessToken").asString();
+        session.refreshToken = json.get("refreshToken").asString();
+        return true;
+    }
+
+    // 모바일 클라이언트처럼 마지막 ETag 로 재검증 (304 = 변경 없음)
+    private boolean conditionalGet(Session session, String path, Long userIndex) throws IOException, InterruptedException {
+        HttpRequest.Builder request = authorized(session, path).GET();
+        String etag = session.etags.get(userIndex);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() == 200) {
+            response.headers().firstValue("ETag").ifPresent(value -> session.etags.put(userIndex, value));
+            return true;
+        }
+        return response.statusCode() == 304;
+    }
+
+    private boolean update(Session session) throws IOException, InterruptedException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", session.userId);
+        body.put("password", PASSWORD);
+        body.put("name", "부하" + session.number + "-" + ThreadLocalRandom.current().nextInt(1000));
+        body.put("gender", "남성");
+        body.put("phone", phone(session.number));
+        body.put("email", session.userId + "@loadtest.local");
+
+        HttpRequest.Builder request = authorized(session, "/api/users/" + session.userIndex)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        return send(request).statusCode() == 200;
+    }
+
+    private HttpRequest.Builder json(String path, Object body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder authorized(Session session, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + session.accessToken);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<Operation, LatencyRecorder> newRecorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    // 콘솔 표 + JSON 파일
+    private void report(Map<Operation, LatencyRecorder> results, double elapsedSeconds) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        LatencyRecorder total = new LatencyRecorder();
+
+        System.out.printf("%n%-24s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder recorder = results.get(operation);
+            total.merge(recorder);
+            rows.add(printRow(operation.label, recorder, elapsedSeconds));
+        }
+        rows.add(printRow("TOTAL", total, elapsedSeconds));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("users", users);
+        summary.put("threads", threads);
+        summary.put("serverThreads", threading());
+        summary.put("durationSeconds", elapsedSeconds);
+        summary.put("endpoints", rows);
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.write(reportFile, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(summary));
+        System.out.println("\n결과 저장: " + reportFile.toAbsolutePath());
+    }
+
+    private String threading() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private static Map<String, Object> printRow(String label, LatencyRecorder recorder, double elapsedSeconds) {
+        double[] p = recorder.percentilesMillis(PERCENTILES);
+        double rps = recorder.count() / elapsedSeconds;
+        System.out.printf("%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                label, recorder.count(), recorder.errors(), rps, p[0], p[1], p[2]);
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", label);
+        row.put("requests", recorder.count());
+        row.put("errors", recorder.errors());
+        row.put("requestsPerSecond", rps);
+        row.put("p50Millis", p[0]);
+        row.put("p99Millis", p[1]);
+        row.put("p999Millis", p[2]);
+        return row;
+    }
+}
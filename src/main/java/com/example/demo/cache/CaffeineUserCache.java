@@ -0,0 +1,51 @@
+package com.example.demo.cache;
+
+import com.example.demo.dto.UserResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 서버 내부(in-process) 사용자 캐시
+ * - byIndex: userIndex → 사용자 응답 (조회는 get(key, loader) 로 원자적으로 적재)
+ * 크기/TTL 제한, 적중률/크기/제거 수는 cache.* 메트릭으로 노출
+ */
+@Component
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<Long, UserResponseDto> byIndex;
+
+    public CaffeineUserCache(
+            MeterRegistry meterRegistry,
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:5m}") Duration ttl) {
+        this.byIndex = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byIndex, "users.byIndex");
+    }
+
+    @Override
+    public UserResponseDto getByUserIndex(Long userIndex, Function<Long, UserResponseDto> loader) {
+        return byIndex.get(userIndex, loader);
+    }
+
+    @Override
+    public UserResponseDto getIfPresent(Long userIndex) {
+        return byIndex.getIfPresent(userIndex);
+    }
+
+    @Override
+    public void evict(Long userIndex) {
+        byIndex.invalidate(userIndex);
+    }
+}
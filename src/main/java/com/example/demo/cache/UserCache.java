@@ -0,0 +1,41 @@
+package com.example.demo.cache;
+
+import com.example.demo.dto.UserResponseDto;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 결과 캐시 (userIndex 키)
+ * - 구현체를 바꾸면 다중 서버 무효화 채널(Redis pub/sub 등)을 붙일 수 있음
+ * - 캐시에서 꺼낸 DTO 는 여러 요청이 공유하므로 수정하면 안 됨
+ */
+public interface UserCache {
+
+    // 캐시에 없으면 loader 로 조회 후 저장 (loader 예외는 캐시하지 않고 그대로 전달)
+    UserResponseDto getByUserIndex(Long userIndex, Function<Long, UserResponseDto> loader);
+
+    // 캐시에 있을 때만 반환 (없으면 null, 조회/저장하지 않음)
+    UserResponseDto getIfPresent(Long userIndex);
+
+    // 즉시 무효화
+    void evict(Long userIndex);
+
+    /**
+     * 변경 트랜잭션에서 사용: 지금 한 번, 커밋 이후 한 번 더 무효화
+     * 커밋 전에 읽혀 다시 캐시된 이전 값도 커밋 후 제거되므로 커밋되지 않은 데이터가 보이지 않는다
+     */
+    default void evictAfterCommit(Long userIndex) {
+        evict(userIndex);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userIndex);
+                }
+            });
+        }
+    }
+}
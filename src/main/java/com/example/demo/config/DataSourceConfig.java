@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import com.example.demo.datasource.ReadYourWritesTracker;
+import com.example.demo.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 레플리카 분리 (spring.datasource.replica.jdbc-url 을 설정했을 때만)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*), 풀 이름 "primary"
+ * - replica: spring.datasource.replica.* (Hikari 설정 그대로), 풀 이름 "replica"
+ * - 풀마다 hikaricp.connections.*{pool=primary|replica} 메트릭이 따로 노출됨
+ * 설정하지 않으면 Spring Boot 기본 DataSource 하나만 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);  // 실수로 쓰기가 라우팅돼도 DB 에서 거절
+        return dataSource;
+    }
+
+    // JPA/JdbcTemplate 가 사용하는 DataSource: 첫 SQL 실행 시점에 readOnly 여부로 풀 선택
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, readYourWritesTracker, meterRegistry));
+    }
+}
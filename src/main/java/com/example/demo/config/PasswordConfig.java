@@ -1,15 +1,33 @@
 package com.example.demo.config;
 
+import com.example.demo.security.BCryptStrengthCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 public class PasswordConfig {
 
     @Bean  // Spring이 관리하는 빈으로 등록
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();  // bcrypt 알고리즘 사용
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.bcrypt.strength:0}") int strength,
+            @Value("${password.bcrypt.target-latency:250ms}") Duration targetLatency,
+            @Value("${password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+
+        // strength 를 직접 지정하지 않으면 시작 시 현재 장비에 맞게 측정
+        if (strength <= 0) {
+            strength = BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+            log.info("BCrypt strength 측정 결과: {} (목표 {}ms)", strength, targetLatency.toMillis());
+        }
+
+        // 저장된 cost 가 strength 보다 낮을 때만 재암호화 대상 (서버마다 측정값이 달라도 하향/반복 재암호화 없음)
+        return new BCryptPasswordEncoder(strength);  // bcrypt 알고리즘 사용
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (만료 토큰 정리 등, 스레드 수는 spring.task.scheduling.pool.size)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
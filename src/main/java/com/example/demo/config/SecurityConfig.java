@@ -1,14 +1,24 @@
 package com.example.demo.config;
 
 import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
 @Configuration
 @EnableWebSecurity
@@ -16,8 +26,37 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    // Prometheus 수집 엔드포인트: 수집기 전용 토큰(Authorization: Bearer <토큰>)이 일치할 때만 허용
+    // (JWT 필터보다 먼저 적용, 토큰을 설정하지 않으면 항상 403)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain prometheusFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.prometheus.scrape-token:}") String scrapeToken) throws Exception {
+        byte[] expected = ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().access((authentication, context) -> {
+                            String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+                            return new AuthorizationDecision(StringUtils.hasText(scrapeToken)
+                                    && header != null
+                                    && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8)));  // 비교 시간으로 토큰 추측 방지
+                        })
+                );
+
+        return http.build();
+    }
 
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())  // CSRF 비활성화 (JWT 사용)
@@ -32,11 +71,16 @@ public class SecurityConfig {
                                 "/api/auth/refresh"     // 토큰 재발급
                         ).permitAll()
 
+                        // 사용자 대량 등록: 관리자만 (요청마다 최대 max-rows 번의 BCrypt)
+                        .requestMatchers(HttpMethod.POST, "/api/users/import").hasRole("ADMIN")
+
                         // 나머지는 모두 인증 필요
                         .anyRequest().authenticated()
                 )
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 요청 제한은 JWT 필터보다 먼저 (공개 인증 API 만 대상)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,34 +1,40 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.*;
+import com.example.demo.security.AuthenticatedUser;
 import com.example.demo.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// JSON 만 응답 (Smile 은 사용자 목록/내보내기 전용)
 @RestController
-@RequestMapping("/api/auth")
+@RequestMapping(value = "/api/auth", produces = MediaType.APPLICATION_JSON_VALUE)
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
 
-    // POST /api/auth/register - 회원가입
+    // POST /api/auth/register - 회원가입 (비동기 응답: BCrypt 는 전용 스레드 풀에서 처리)
     @PostMapping("/register")
-    public ResponseEntity<UserResponseDto> register(@Valid @RequestBody UserRequestDto requestDto) {
-        UserResponseDto user = authService.register(requestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(user);
+    public CompletableFuture<ResponseEntity<UserResponseDto>> register(@Valid @RequestBody UserRequestDto requestDto) {
+        return authService.register(requestDto)
+                .thenApply(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
     }
 
-    // POST /api/auth/login - 로그인
+    // POST /api/auth/login - 로그인 (비동기 응답: BCrypt 는 전용 스레드 풀에서 처리)
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto requestDto) {
-        LoginResponseDto response = authService.login(requestDto);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@Valid @RequestBody LoginRequestDto requestDto) {
+        return authService.login(requestDto)
+                .thenApply(ResponseEntity::ok);
     }
 
     // 🆕 POST /api/auth/refresh - 액세스 토큰 재발급
@@ -38,14 +44,36 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
-    // 🆕 POST /api/auth/logout - 로그아웃
+    // 🆕 POST /api/auth/logout - 로그아웃 (현재 기기만)
     @PostMapping("/logout")
     public ResponseEntity<Void> logout() {
-        // SecurityContext에서 현재 로그인한 userId 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userId = (String) authentication.getPrincipal();
+        authService.logout(getCurrentUser());
+        return ResponseEntity.noContent().build();
+    }
 
-        authService.logout(userId);
+    // POST /api/auth/logout-all - 모든 기기에서 로그아웃
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll() {
+        authService.logoutAll(getCurrentUser().userIndex());
         return ResponseEntity.noContent().build();
     }
+
+    // GET /api/auth/sessions - 로그인 세션(기기) 목록
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponseDto>> getSessions() {
+        return ResponseEntity.ok(authService.getSessions(getCurrentUser()));
+    }
+
+    // DELETE /api/auth/sessions/{sessionId} - 특정 세션 로그아웃
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(@PathVariable String sessionId) {
+        authService.revokeSession(getCurrentUser().userIndex(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // SecurityContext에서 현재 로그인한 사용자 가져오기
+    private AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
 }
\ No newline at end of file
@@ -1,35 +1,79 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.UserImportResponseDto;
+import com.example.demo.dto.UserPageResponseDto;
 import com.example.demo.dto.UserRequestDto;
 import com.example.demo.dto.UserResponseDto;
+import com.example.demo.security.AuthRateLimiter;
+import com.example.demo.security.AuthenticatedUser;
+import com.example.demo.service.UserImportService;
 import com.example.demo.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
+// 기본은 JSON 만 응답 (Smile 은 목록/내보내기만 메서드 produces 로 허용)
+// 조회 ETag 는 표현 형식을 구분하지 않으므로 단건 조회가 Smile 로 응답하면 안 된다
 @RestController
-@RequestMapping("/api/users")
+@RequestMapping(value = "/api/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final AuthRateLimiter authRateLimiter;
 
-    @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
+    // GET /api/users?limit=20&after={nextCursor}&fields=userId,name - 커서 기반 페이지 조회
+    // Accept: application/x-jackson-smile 이면 Smile(바이너리 JSON)로 응답
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserPageResponseDto<?>> getUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
+        UserPageResponseDto<?> users = userService.getUsers(after, limit, fields);
         return ResponseEntity.ok(users);
     }
 
+    // GET /api/users/export?fields=userId,name - 전체 사용자 NDJSON 스트리밍 내보내기
+    // Accept 에 application/x-jackson-smile 을 명시한 경우에만 Smile 값 연속으로 (*/* 는 기존대로 NDJSON)
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, APPLICATION_SMILE_VALUE})
+    public void exportUsers(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response) throws IOException {
+        if (accept != null && MediaType.parseMediaTypes(accept).stream().anyMatch(APPLICATION_SMILE::equalsTypeAndSubtype)) {
+            response.setContentType(APPLICATION_SMILE_VALUE);
+            userService.exportUsers(response.getOutputStream(), fields, UserService.ExportFormat.SMILE);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userService.exportUsers(response.getOutputStream(), fields, UserService.ExportFormat.NDJSON);
+    }
+
+    // If-None-Match 가 현재 ETag 와 같으면 304 (본문 없음)
     @GetMapping("/{userIndex}")
-    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userIndex) {
-        UserResponseDto user = userService.getUserById(userIndex);
-        return ResponseEntity.ok(user);
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userIndex, WebRequest request) {
+        return conditionalGetUser(userIndex, request);
     }
 
     @PostMapping
@@ -38,6 +82,22 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(user);
     }
 
+    // POST /api/users/import - 사용자 대량 등록 (JSON 배열, 관리자만, 사용자별 요청 제한)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportResponseDto> importUsers(@RequestBody List<UserRequestDto> requestDtos) {
+        authRateLimiter.checkImportUser(currentUser().userIndex());
+        UserImportResponseDto result = userImportService.importUsers(requestDtos);
+        return ResponseEntity.ok(result);
+    }
+
+    // POST /api/users/import - 사용자 대량 등록 (CSV 파일 업로드, 필드명 file)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportResponseDto> importUsersCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        authRateLimiter.checkImportUser(currentUser().userIndex());
+        UserImportResponseDto result = userImportService.importCsv(file.getInputStream());
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{userIndex}")
     public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable Long userIndex,
@@ -54,12 +114,39 @@ public class UserController {
 
     // 🆕 현재 로그인한 사용자 정보 조회
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDto> getCurrentUser() {
-        // SecurityContext에서 현재 인증된 사용자 가져오기
+    public ResponseEntity<UserResponseDto> getCurrentUser(WebRequest request) {
+        return conditionalGetUser(currentUser().userIndex(), request);
+    }
+
+    // SecurityContext에서 현재 인증된 사용자 가져오기
+    private AuthenticatedUser currentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userId = (String) authentication.getPrincipal();
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
 
-        UserResponseDto user = userService.getUserByUserId(userId);
-        return ResponseEntity.ok(user);
+    // 1. If-None-Match 가 있으면 수정 시각만 확인 (캐시 또는 updated_at 한 컬럼 조회) → 같으면 304, 사용자 조회/직렬화 없음
+    // 2. 다르면 전체 조회 후 ETag 와 함께 200 (no-cache: 클라이언트는 저장하되 매번 ETag 로 재검증)
+    private ResponseEntity<UserResponseDto> conditionalGetUser(Long userIndex, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = userService.getUserUpdatedAt(userIndex)
+                    .map(updatedAt -> etag(userIndex, updatedAt))
+                    .orElse(null);
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;  // 304 응답은 checkNotModified 가 작성
+            }
+        }
+
+        UserResponseDto user = userService.getUserById(userIndex);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate());
+        if (user.getUpdatedAt() != null) {
+            response.eTag(etag(userIndex, user.getUpdatedAt()));
+        }
+        return response.body(user);
+    }
+
+    // 강한 ETag: "{userIndex}-{수정 시각(마이크로초)}" (DB 컬럼 정밀도에 맞춰 절사)
+    private static String etag(Long userIndex, LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + userIndex + "-" + Long.toHexString(micros) + "\"";
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.demo.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기가 커밋된 사용자 목록 (read-your-writes)
+ * - 쓰기 트랜잭션을 커밋한 사용자(ReplicaRoutingDataSource): 복제 지연 동안 본인 읽기를 primary 로 고정
+ * - 정보가 수정/삭제된 사용자(UserService): 다른 사용자가 레플리카에서 읽은 이전 값을 조회 캐시에 넣지 않음
+ * - 항목은 sticky-window 가 지나면 자동 삭제, 크기 제한을 넘으면 오래된 항목부터 제거
+ * - 레플리카를 설정하지 않으면 기록하지 않으므로 항상 false
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean enabled;
+    private final Cache<Long, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(
+            @Value("${spring.datasource.replica.jdbc-url:}") String replicaUrl,
+            @Value("${read-replica.sticky-window:5s}") Duration stickyWindow,
+            @Value("${read-replica.max-users:100000}") long maxUsers) {
+        this.enabled = StringUtils.hasText(replicaUrl);
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    public void markWrite(Long userIndex) {
+        if (enabled && userIndex != null) {
+            recentWrites.put(userIndex, Boolean.TRUE);
+        }
+    }
+
+    // 현재 쓰기 트랜잭션이 커밋된 뒤에만 기록 (롤백되면 replica 로 읽어도 됨, 트랜잭션 밖이면 기록하지 않음)
+    public void markWriteAfterCommit(Long userIndex) {
+        if (!enabled || userIndex == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(userIndex);
+            }
+        });
+    }
+
+    // 최근 쓰기가 있었으면 true
+    public boolean isSticky(Long userIndex) {
+        return userIndex != null && recentWrites.getIfPresent(userIndex) != null;
+    }
+}
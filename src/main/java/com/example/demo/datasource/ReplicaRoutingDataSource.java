@@ -0,0 +1,77 @@
+package com.example.demo.datasource;
+
+import com.example.demo.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * @Transactional(readOnly) 에 따라 커넥션을 primary / replica 로 분배
+ * - 읽기 전용 트랜잭션 → replica (단, 최근 쓰기를 커밋한 사용자는 primary)
+ * - 쓰기 트랜잭션 / 트랜잭션 밖 → primary, 커밋되면 현재 사용자를 ReadYourWritesTracker 에 기록
+ * - readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy 뒤에서 사용
+ *   (첫 SQL 실행 시점에 커넥션을 가져오도록)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primaryCounter = routeCounter(meterRegistry, Route.PRIMARY);
+        this.replicaCounter = routeCounter(meterRegistry, Route.REPLICA);
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Route route) {
+        return Counter.builder("datasource.route")
+                .description("라우팅된 커넥션 수")
+                .tag("route", route.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userIndex = currentUserIndex();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.markWriteAfterCommit(userIndex);
+            primaryCounter.increment();
+            return Route.PRIMARY;
+        }
+        if (readYourWritesTracker.isSticky(userIndex)) {
+            primaryCounter.increment();
+            return Route.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Route.REPLICA;
+    }
+
+    private static Long currentUserIndex() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userIndex();
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,4 +14,8 @@ public class LoginRequestDto {
 
     @NotBlank(message = "비밀번호는 필수입니다")
     private String password;
+
+    // 선택: 기기 고유 ID (같은 기기에서 다시 로그인하면 기존 세션을 교체, 없으면 새 세션 생성)
+    @Pattern(regexp = "^[A-Za-z0-9._-]{1,64}$", message = "deviceId는 영문/숫자/._- 64자 이하여야 합니다")
+    private String deviceId;
 }
\ No newline at end of file
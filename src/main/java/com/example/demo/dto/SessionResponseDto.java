@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.RefreshToken;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SessionResponseDto {
+
+    private String sessionId;
+    private LocalDateTime createdAt;   // 최초 로그인 시각
+    private LocalDateTime lastUsedAt;  // 마지막 로그인/재발급 시각
+    private LocalDateTime expiresAt;   // 리프레시 토큰 만료 시각
+    private boolean current;           // 이 요청을 보낸 세션인지
+
+    public SessionResponseDto(RefreshToken refreshToken, String currentSessionId) {
+        this.sessionId = refreshToken.getSessionId();
+        this.createdAt = refreshToken.getCreatedAt();
+        this.lastUsedAt = refreshToken.getLastUsedAt();
+        this.expiresAt = refreshToken.getExpiresAt();
+        this.current = refreshToken.getSessionId().equals(currentSessionId);
+    }
+}
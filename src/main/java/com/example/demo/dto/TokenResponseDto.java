@@ -9,5 +9,6 @@ import lombok.Setter;
 @AllArgsConstructor
 public class TokenResponseDto {
 
-    private String accessToken;  // 새로 발급된 액세스 토큰
-}
\ No newline at end of file
+    private String accessToken;   // 새로 발급된 액세스 토큰
+    private String refreshToken;  // 교체된 리프레시 토큰 (이전 토큰은 더 이상 사용 불가)
+}
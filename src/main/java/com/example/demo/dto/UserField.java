@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * fields 파라미터로 선택할 수 있는 사용자 필드 (API 필드명 = User 엔티티 속성명)
+ * 예: GET /api/users?fields=userId,name → SELECT 와 응답 모두 user_index, user_id, name 만
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserField {
+
+    USER_INDEX("userIndex"),
+    USER_ID("userId"),
+    NAME("name"),
+    GENDER("gender"),
+    PHONE("phone"),
+    EMAIL("email"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String property;
+
+    public static Optional<UserField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+}
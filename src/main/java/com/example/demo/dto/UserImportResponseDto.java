@@ -0,0 +1,28 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class UserImportResponseDto {
+
+    private int total;                // 전체 요청 행 수
+    private int succeeded;            // 저장 성공 행 수
+    private int failed;               // 저장 실패 행 수
+    private List<RowResult> results;  // 행별 결과 (요청 순서)
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row;          // 행 번호 (1부터 시작, CSV는 헤더 제외)
+        private String userId;
+        private boolean success;
+        private String message;   // 실패 사유 (성공 시 null)
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class UserPageResponseDto<T> {
+
+    private List<T> users;                // 현재 페이지 사용자 목록 (UserResponseDto, fields 지정 시 선택한 필드만 담은 Map)
+    private String nextCursor;            // 다음 페이지 요청 시 after 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;              // 다음 페이지 존재 여부
+}
@@ -1,6 +1,7 @@
 package com.example.demo.dto;
 
 import com.example.demo.entity.User;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@AllArgsConstructor  // JPQL 생성자 프로젝션 (select new ...) 용
 public class UserResponseDto {
 
     private Long userIndex;
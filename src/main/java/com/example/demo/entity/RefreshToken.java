@@ -10,13 +10,23 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = {
+                @UniqueConstraint(name = RefreshToken.UK_USER_SESSION, columnNames = {"user_index", "session_id"}),  // 기기(세션)당 한 행 (upsert 키)
+                @UniqueConstraint(name = RefreshToken.UK_TOKEN, columnNames = "token")
+        },
+        indexes = @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 public class RefreshToken {
 
+    public static final String UK_USER_SESSION = "uk_refresh_tokens_user_session";
+    public static final String UK_TOKEN = "uk_refresh_tokens_token";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,20 +34,27 @@ public class RefreshToken {
     @Column(name = "user_index", nullable = false)
     private Long userIndex;
 
-    @Column(nullable = false, length = 500)
-    private String token;  // 해시화된 리프레시 토큰
+    @Column(name = "session_id", nullable = false, length = 64)
+    private String sessionId;  // 기기(세션) ID - 로그인 요청의 deviceId, 없으면 서버에서 생성
+
+    @Column(name = "token", nullable = false, length = 64)
+    private String tokenHash;  // 리프레시 토큰의 SHA-256 해시 (원문은 저장하지 않음)
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
-    private LocalDateTime createdAt;
+    private LocalDateTime createdAt;  // 세션 최초 로그인 시각
+
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;  // 마지막 로그인/재발급 시각 (세션 수 초과 시 가장 오래된 세션부터 제거)
 
     // 생성자
-    public RefreshToken(Long userIndex, String token, LocalDateTime expiresAt) {
+    public RefreshToken(Long userIndex, String sessionId, String tokenHash, LocalDateTime expiresAt) {
         this.userIndex = userIndex;
-        this.token = token;
+        this.sessionId = sessionId;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 여러 서버 중 한 곳에서만 스케줄 작업을 실행하기 위한 잠금 (작업 이름당 한 행)
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;  // 작업 이름
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;  // 이 시각까지 다른 서버는 실행 불가
+
+    @Column(name = "locked_by", length = 255)
+    private String lockedBy;  // 잠금을 가진 서버 (pid@host)
+
+    // 생성자
+    public SchedulerLock(String name, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+    }
+}
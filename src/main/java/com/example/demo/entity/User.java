@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,19 +15,32 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USER_ID, columnNames = "user_id"),
+        @UniqueConstraint(name = User.UK_PHONE, columnNames = "phone"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")  // PK 조회 2차 캐시
+@NaturalIdCache(region = "users-natural-id")                          // user_id → PK 캐시
 @Getter
 @Setter
 @NoArgsConstructor
 public class User {
 
+    // 유니크 제약조건 이름 (중복 에러 메시지 변환에 사용)
+    public static final String UK_USER_ID = "uk_users_user_id";
+    public static final String UK_PHONE = "uk_users_phone";
+    public static final String UK_EMAIL = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_index")
     private Long userIndex;
 
-    @Column(name = "user_id", nullable = false, unique = true, length = 50)
+    @NaturalId  // 로그인 아이디 (변경 불가 자연키)
+    @Column(name = "user_id", nullable = false, length = 50)
     private String userId;
 
     @Column(nullable = false, length = 100)
@@ -35,10 +52,10 @@ public class User {
     @Column(nullable = false, length = 10)
     private String gender;
 
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String phone;
 
-    @Column(nullable = true, unique = true, length = 100)
+    @Column(nullable = true, length = 100)
     private String email;
 
     @CreatedDate
@@ -2,9 +2,13 @@ package com.example.demo.exception;
 
 import com.example.demo.dto.ErrorResponseDto;
 import com.example.demo.dto.ValidationErrorResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,10 +19,44 @@ import java.util.stream.Collectors;
 @RestControllerAdvice  // 전역 예외 처리
 public class GlobalExceptionHandler {
 
+    // 응답 상태/예외별 횟수 (요청마다 태그를 만들지 않도록 미리 생성)
+    private final Counter validationCounter;
+    private final Counter badRequestCounter;
+    private final Counter duplicateCounter;
+    private final Counter unauthorizedCounter;
+    private final Counter forbiddenCounter;
+    private final Counter notFoundCounter;
+    private final Counter notAcceptableCounter;
+    private final Counter tooManyRequestsCounter;
+    private final Counter serviceUnavailableCounter;
+    private final Counter internalErrorCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.validationCounter = errorCounter(meterRegistry, HttpStatus.BAD_REQUEST, MethodArgumentNotValidException.class);
+        this.badRequestCounter = errorCounter(meterRegistry, HttpStatus.BAD_REQUEST, BadRequestException.class);
+        this.duplicateCounter = errorCounter(meterRegistry, HttpStatus.BAD_REQUEST, DuplicateResourceException.class);
+        this.unauthorizedCounter = errorCounter(meterRegistry, HttpStatus.UNAUTHORIZED, UnauthorizedException.class);
+        this.forbiddenCounter = errorCounter(meterRegistry, HttpStatus.FORBIDDEN, ForbiddenException.class);
+        this.notFoundCounter = errorCounter(meterRegistry, HttpStatus.NOT_FOUND, ResourceNotFoundException.class);
+        this.notAcceptableCounter = errorCounter(meterRegistry, HttpStatus.NOT_ACCEPTABLE, HttpMediaTypeNotAcceptableException.class);
+        this.tooManyRequestsCounter = errorCounter(meterRegistry, HttpStatus.TOO_MANY_REQUESTS, TooManyRequestsException.class);
+        this.serviceUnavailableCounter = errorCounter(meterRegistry, HttpStatus.SERVICE_UNAVAILABLE, ServiceUnavailableException.class);
+        this.internalErrorCounter = errorCounter(meterRegistry, HttpStatus.INTERNAL_SERVER_ERROR, Exception.class);
+    }
+
+    private static Counter errorCounter(MeterRegistry meterRegistry, HttpStatus status, Class<?> exceptionType) {
+        return Counter.builder("api.errors")
+                .description("전역 예외 처리기가 반환한 에러 응답 수")
+                .tag("status", String.valueOf(status.value()))
+                .tag("exception", exceptionType.getSimpleName())
+                .register(meterRegistry);
+    }
+
     // 400 Bad Request - Validation 에러
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponseDto> handleValidationException(
             MethodArgumentNotValidException ex) {
+        validationCounter.increment();
 
         // 모든 필드 에러 수집
         List<ValidationErrorResponseDto.FieldError> errors = ex.getBindingResult()
@@ -40,10 +78,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    // 400 Bad Request - 잘못된 요청 파라미터
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponseDto> handleBadRequestException(
+            BadRequestException ex) {
+        badRequestCounter.increment();
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     // 400 Bad Request - 중복 리소스
     @ExceptionHandler(DuplicateResourceException.class)
     public ResponseEntity<ErrorResponseDto> handleDuplicateResourceException(
             DuplicateResourceException ex) {
+        duplicateCounter.increment();
 
         ErrorResponseDto response = new ErrorResponseDto(
                 HttpStatus.BAD_REQUEST.value(),
@@ -58,6 +112,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ErrorResponseDto> handleUnauthorizedException(
             UnauthorizedException ex) {
+        unauthorizedCounter.increment();
 
         ErrorResponseDto response = new ErrorResponseDto(
                 HttpStatus.UNAUTHORIZED.value(),
@@ -72,6 +127,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ForbiddenException.class)
     public ResponseEntity<ErrorResponseDto> handleForbiddenException(
             ForbiddenException ex) {
+        forbiddenCounter.increment();
 
         ErrorResponseDto response = new ErrorResponseDto(
                 HttpStatus.FORBIDDEN.value(),
@@ -86,6 +142,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleResourceNotFoundException(
             ResourceNotFoundException ex) {
+        notFoundCounter.increment();
 
         ErrorResponseDto response = new ErrorResponseDto(
                 HttpStatus.NOT_FOUND.value(),
@@ -96,9 +153,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    // 406 Not Acceptable - Accept 에 응답 가능한 형식이 없음 (예: JSON 전용 API 에 Smile 요청)
+    // 요청한 형식으로는 본문을 쓸 수 없으므로 본문 없이 응답
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleHttpMediaTypeNotAcceptableException(
+            HttpMediaTypeNotAcceptableException ex) {
+        notAcceptableCounter.increment();
+
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
+    // 429 Too Many Requests - 요청 제한 초과
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDto> handleTooManyRequestsException(
+            TooManyRequestsException ex) {
+        tooManyRequestsCounter.increment();
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // 503 Service Unavailable - 처리 용량 초과 (잠시 후 재시도)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceUnavailableException(
+            ServiceUnavailableException ex) {
+        serviceUnavailableCounter.increment();
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     // 500 Internal Server Error - 기타 에러
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleException(Exception ex) {
+        internalErrorCounter.increment();
 
         ErrorResponseDto response = new ErrorResponseDto(
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
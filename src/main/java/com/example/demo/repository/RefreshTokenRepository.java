@@ -1,21 +1,75 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    // userIndex로 리프레시 토큰 찾기
-    Optional<RefreshToken> findByUserIndex(Long userIndex);
+    // 토큰 해시로 만료되지 않은 리프레시 토큰 찾기 (uk_refresh_tokens_token 인덱스 사용)
+    Optional<RefreshToken> findByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
 
-    // userIndex로 리프레시 토큰 삭제 (로그아웃 시 사용)
-    void deleteByUserIndex(Long userIndex);
+    // 로그인 시 발급: 세션 행이 없으면 INSERT, 있으면 교체 (uk_refresh_tokens_user_session 기준, 문장 하나로 처리)
+    // native 쿼리는 대상 테이블을 지정하지 않으면 Hibernate 가 2차 캐시 전체를 비우므로 refresh_tokens 만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = "insert into refresh_tokens (user_index, session_id, token, expires_at, created_at, last_used_at) " +
+            "values (:userIndex, :sessionId, :tokenHash, :expiresAt, :now, :now) " +
+            "on duplicate key update token = values(token), expires_at = values(expires_at), " +
+            "last_used_at = values(last_used_at)",
+            nativeQuery = true)
+    int upsert(@Param("userIndex") Long userIndex,
+               @Param("sessionId") String sessionId,
+               @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
 
-    // 만료된 토큰 삭제 (배치 작업용)
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
-}
\ No newline at end of file
+    // 사용자의 세션 목록 (최근 사용 순, uk_refresh_tokens_user_session 인덱스 사용)
+    List<RefreshToken> findByUserIndexOrderByLastUsedAtDescIdDesc(Long userIndex);
+
+    // 사용자의 세션 id/세션 ID 를 최근 사용 순으로 조회 (세션 수 제한용)
+    @Query("select r.id as id, r.sessionId as sessionId from RefreshToken r " +
+            "where r.userIndex = :userIndex order by r.lastUsedAt desc, r.id desc")
+    List<SessionRef> findSessionsByUserIndexNewestFirst(@Param("userIndex") Long userIndex);
+
+    // 토큰 교체 (CAS): 조회 이후 다른 요청이 먼저 교체했다면 0 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.tokenHash = :newTokenHash, r.expiresAt = :expiresAt, r.lastUsedAt = :now " +
+            "where r.id = :id and r.tokenHash = :oldTokenHash")
+    int rotate(@Param("id") Long id,
+               @Param("oldTokenHash") String oldTokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    // 세션 하나 삭제 (로그아웃/세션 해제)
+    @Modifying
+    @Query("delete from RefreshToken r where r.userIndex = :userIndex and r.sessionId = :sessionId")
+    int deleteByUserIndexAndSessionId(@Param("userIndex") Long userIndex, @Param("sessionId") String sessionId);
+
+    // userIndex로 모든 세션 삭제 (전체 로그아웃/회원 탈퇴 시 사용, 조회 없이 DELETE 한 번)
+    @Modifying
+    @Query("delete from RefreshToken r where r.userIndex = :userIndex")
+    int deleteByUserIndex(@Param("userIndex") Long userIndex);
+
+    // 만료된 토큰 id 를 limit 개만 조회 (정리 작업용, idx_refresh_tokens_expires_at 인덱스 사용)
+    @Query("select r.id from RefreshToken r where r.expiresAt < :cutoff order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // id 목록으로 한 번에 삭제 (정리 작업/세션 수 제한용)
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
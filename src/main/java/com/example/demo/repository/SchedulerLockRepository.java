@@ -0,0 +1,31 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금이 만료된 경우에만 획득 (조건부 UPDATE 이므로 동시에 한 서버만 1 반환)
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy " +
+            "where l.name = :name and l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name,
+                   @Param("lockedBy") String lockedBy,
+                   @Param("lockedUntil") LocalDateTime lockedUntil,
+                   @Param("now") LocalDateTime now);
+
+    // 작업이 끝나면 바로 해제 (본인이 가진 잠금만)
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now " +
+            "where l.name = :name and l.lockedBy = :lockedBy")
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+// 세션 수 제한용 프로젝션 (삭제 대상 id 와 denylist 에 올릴 세션 ID 만 조회)
+public interface SessionRef {
+
+    Long getId();
+
+    String getSessionId();
+}
@@ -1,16 +1,70 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.UserResponseDto;
 import com.example.demo.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    // userId로 찾기 (로그인용)
-    Optional<User> findByUserId(String userId);
+    // ===== 조회 전용 프로젝션 =====
+    // 응답에 필요한 컬럼만 DTO로 바로 조회 (password 제외, 엔티티/스냅샷 생성 없음)
+
+    String USER_RESPONSE_SELECT = "select new com.example.demo.dto.UserResponseDto("
+            + "u.userIndex, u.userId, u.name, u.gender, u.phone, u.email, u.createdAt, u.updatedAt) "
+            + "from User u ";
+
+    @Query(USER_RESPONSE_SELECT + "where u.userIndex = :userIndex")
+    Optional<UserResponseDto> findResponseByUserIndex(@Param("userIndex") Long userIndex);
+
+    // 조건부 조회(ETag) 확인용: 수정 시각 한 컬럼만 조회
+    @Query("select u.updatedAt from User u where u.userIndex = :userIndex")
+    Optional<LocalDateTime> findUpdatedAtByUserIndex(@Param("userIndex") Long userIndex);
+
+    // 커서(user_index) 이후 사용자를 PK 순서로 조회 (키셋 페이지네이션, OFFSET 미사용)
+    @Query(USER_RESPONSE_SELECT + "where u.userIndex > :userIndex order by u.userIndex")
+    List<UserResponseDto> findResponsesAfter(@Param("userIndex") Long userIndex, Limit limit);
+
+    // 전체 사용자를 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 반드시 close)
+    // MySQL에서 fetch size가 적용되려면 JDBC URL에 useCursorFetch=true 필요
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(USER_RESPONSE_SELECT + "order by u.userIndex")
+    Stream<UserResponseDto> streamAllResponses();
+
+    // 아이디/전화번호/이메일 중 하나라도 일치하는 사용자 조회 (중복 검사를 한 번의 왕복으로)
+    // null 인 파라미터는 비교하지 않음
+    @Query("select u.userId as userId, u.phone as phone, u.email as email from User u "
+            + "where (:userId is not null and u.userId = :userId) "
+            + "or (:phone is not null and u.phone = :phone) "
+            + "or (:email is not null and u.email = :email)")
+    List<UserUniqueFields> findUniqueFieldConflicts(
+            @Param("userId") String userId,
+            @Param("phone") String phone,
+            @Param("email") String email);
+
+    // ===== 대량 등록용 집합 기반 중복 검사 =====
+
+    @Query("select u.userId from User u where u.userId in :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    @Query("select u.phone from User u where u.phone in :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
     // userId 존재 여부 확인
     boolean existsByUserId(String userId);
@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.UserField;
+import com.example.demo.entity.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserRepositoryCustom {
+
+    // userId로 찾기 (로그인용) - 자연키 캐시를 사용하므로 반복 조회 시 DB 조회 없음
+    Optional<User> findByUserId(String userId);
+
+    // 요청한 필드(컬럼)만 커서 이후 PK 순서로 조회 (키 = API 필드명, 순서 = fields 순서)
+    List<Map<String, Object>> findFieldsAfter(List<UserField> fields, long userIndex, int limit);
+
+    // 요청한 필드만 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 반드시 close)
+    Stream<Map<String, Object>> streamFields(List<UserField> fields);
+}
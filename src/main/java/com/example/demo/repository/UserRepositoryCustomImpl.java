@@ -0,0 +1,68 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.UserField;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 자연키(user_id) 조회: 자연키 캐시 → 엔티티 캐시 → DB 순서로 확인
+    @Override
+    public Optional<User> findByUserId(String userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(userId);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsAfter(List<UserField> fields, long userIndex, int limit) {
+        return fieldsQuery(fields, "where u.userIndex > :userIndex ")
+                .setParameter("userIndex", userIndex)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+    }
+
+    // MySQL에서 fetch size가 적용되려면 JDBC URL에 useCursorFetch=true 필요 (streamAllResponses 와 동일)
+    @Override
+    public Stream<Map<String, Object>> streamFields(List<UserField> fields) {
+        return fieldsQuery(fields, "")
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+                .getResultStream()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    // select 절은 UserField 의 속성명으로만 만들어지므로 사용자 입력이 JPQL 에 직접 들어가지 않음
+    private TypedQuery<Tuple> fieldsQuery(List<UserField> fields, String where) {
+        String select = fields.stream()
+                .map(field -> "u." + field.getProperty() + " as " + field.getProperty())
+                .collect(Collectors.joining(", "));
+        return entityManager.createQuery(
+                "select " + select + " from User u " + where + "order by u.userIndex", Tuple.class);
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, List<UserField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            row.put(field.getProperty(), tuple.get(field.getProperty()));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+// 중복 검사용 프로젝션 (고유 컬럼만 조회)
+public interface UserUniqueFields {
+
+    String getUserId();
+
+    String getPhone();
+
+    String getEmail();
+}
@@ -0,0 +1,120 @@
+package com.example.demo.scheduler;
+
+import com.example.demo.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 리프레시 토큰 정리
+ * - chunk-size 개씩 id 조회 후 한 번의 DELETE ... WHERE id IN (...) 으로 삭제
+ * - chunk 마다 별도 트랜잭션 + pause 만큼 대기 (긴 잠금/대량 binlog 방지)
+ * - max-chunks 개를 처리했거나 잠금 시간(lock-lease)을 넘기면 중단하고 남은 행은 다음 실행에서 처리
+ *   (스케줄러 스레드를 오래 점유하지 않도록)
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SchedulerLockManager schedulerLockManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration pause;
+    private final Duration lockLease;
+
+    private final Counter purgedCounter;
+    private final Timer chunkTimer;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            SchedulerLockManager schedulerLockManager,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${refresh-token.purge.chunk-size:1000}") int chunkSize,
+            @Value("${refresh-token.purge.max-chunks:100}") int maxChunks,
+            @Value("${refresh-token.purge.pause:100ms}") Duration pause,
+            @Value("${refresh-token.purge.lock-lease:10m}") Duration lockLease) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.schedulerLockManager = schedulerLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pause = pause;
+        this.lockLease = lockLease;
+
+        this.purgedCounter = Counter.builder("refresh.token.purge.rows")
+                .description("삭제된 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("refresh.token.purge.chunk")
+                .description("chunk 하나(조회 + 삭제)의 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${refresh-token.purge.cron:0 0 * * * *}")
+    public void run() {
+        if (!schedulerLockManager.tryLock(LOCK_NAME, lockLease)) {
+            log.debug("다른 서버에서 만료 토큰 정리 중");
+            return;
+        }
+        try {
+            long total = purgeExpired();
+            if (total > 0) {
+                log.info("만료된 리프레시 토큰 {}건 삭제", total);
+            }
+        } finally {
+            schedulerLockManager.unlock(LOCK_NAME);
+        }
+    }
+
+    // 삭제한 행 수 반환
+    long purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        long deadline = System.nanoTime() + lockLease.toNanos();
+        long total = 0;
+
+        for (int chunk = 0; chunk < maxChunks && System.nanoTime() < deadline; chunk++) {
+            int deleted = chunkTimer.record(() -> transactionTemplate.execute(status -> deleteChunk(cutoff)));
+            purgedCounter.increment(deleted);
+            total += deleted;
+
+            if (deleted < chunkSize || !sleep()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int deleteChunk(LocalDateTime cutoff) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(cutoff, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(ids);
+    }
+
+    // 인터럽트되면 false (종료 중)
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
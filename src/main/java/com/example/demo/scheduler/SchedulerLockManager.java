@@ -0,0 +1,55 @@
+package com.example.demo.scheduler;
+
+import com.example.demo.entity.SchedulerLock;
+import com.example.demo.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DB 행 기반 스케줄 작업 잠금
+ * - 잠금 시간(lease)이 지나면 서버가 죽었더라도 다른 서버가 다시 획득
+ * - 획득/해제는 각각 짧은 트랜잭션으로 처리 (작업 중 행 잠금을 잡고 있지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockManager {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();  // pid@host
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 획득하면 true, 다른 서버가 실행 중이면 false
+    public boolean tryLock(String name, Duration lease) {
+        createIfAbsent(name);
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryAcquire(name, NODE_ID, now.plus(lease), now));
+        return updated != null && updated == 1;
+    }
+
+    public void unlock(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLockRepository.release(name, NODE_ID, LocalDateTime.now()));
+    }
+
+    // 잠금 행이 없으면 만료된 상태로 생성 (동시에 생성하면 한쪽은 무시)
+    private void createIfAbsent(String name) {
+        if (schedulerLockRepository.existsById(name)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.saveAndFlush(new SchedulerLock(name, LocalDateTime.now())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 생성
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.security;
+
+import com.example.demo.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 인증 API 요청 제한 (BCrypt/DB 작업 전에 거절)
+ * - IP 기준: 로그인/회원가입/토큰 재발급 (RateLimitFilter)
+ * - userId 기준: 로그인 (AuthService, 여러 IP 에서 한 계정을 노리는 경우)
+ * - 사용자(userIndex) 기준: 대량 등록 (UserController, 한 계정이 BCrypt 스레드 풀을 계속 점유하지 않도록)
+ */
+@Component
+public class AuthRateLimiter {
+
+    private static final String MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요";
+
+    private final boolean enabled;
+    private final Map<String, Limit> ipLimits;  // 경로 → IP 기준 제한
+    private final Limit loginUserLimit;
+    private final Limit importUserLimit;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${rate-limit.login-ip.capacity:20}") int loginIpCapacity,
+            @Value("${rate-limit.login-ip.period:1m}") Duration loginIpPeriod,
+            @Value("${rate-limit.login-user.capacity:5}") int loginUserCapacity,
+            @Value("${rate-limit.login-user.period:1m}") Duration loginUserPeriod,
+            @Value("${rate-limit.register-ip.capacity:5}") int registerIpCapacity,
+            @Value("${rate-limit.register-ip.period:1m}") Duration registerIpPeriod,
+            @Value("${rate-limit.refresh-ip.capacity:30}") int refreshIpCapacity,
+            @Value("${rate-limit.refresh-ip.period:1m}") Duration refreshIpPeriod,
+            @Value("${rate-limit.import-user.capacity:5}") int importUserCapacity,
+            @Value("${rate-limit.import-user.period:1h}") Duration importUserPeriod) {
+        this.enabled = enabled;
+        this.ipLimits = Map.of(
+                "/api/auth/login", new Limit(meterRegistry, "login-ip", loginIpCapacity, loginIpPeriod, maxKeys),
+                "/api/auth/register", new Limit(meterRegistry, "register-ip", registerIpCapacity, registerIpPeriod, maxKeys),
+                "/api/auth/refresh", new Limit(meterRegistry, "refresh-ip", refreshIpCapacity, refreshIpPeriod, maxKeys)
+        );
+        this.loginUserLimit = new Limit(meterRegistry, "login-user", loginUserCapacity, loginUserPeriod, maxKeys);
+        this.importUserLimit = new Limit(meterRegistry, "import-user", importUserCapacity, importUserPeriod, maxKeys);
+    }
+
+    // 제한 대상 경로인지 (필터에서 확인)
+    public boolean isLimited(String path) {
+        return enabled && ipLimits.containsKey(path);
+    }
+
+    public void checkIp(String path, String clientIp) {
+        Limit limit = ipLimits.get(path);
+        if (enabled && limit != null) {
+            check(limit, clientIp);
+        }
+    }
+
+    public void checkLoginUser(String userId) {
+        if (enabled && userId != null) {
+            check(loginUserLimit, userId);
+        }
+    }
+
+    public void checkImportUser(Long userIndex) {
+        if (enabled && userIndex != null) {
+            check(importUserLimit, userIndex.toString());
+        }
+    }
+
+    private void check(Limit limit, String key) {
+        long waitNanos = limit.limiter().tryAcquire(key);
+        if (waitNanos > 0) {
+            limit.rejected().increment();
+            // 올림 (최소 1초)
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new TooManyRequestsException(MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    // 제한 + 거절 횟수 (rate.limit.rejected{limit=...})
+    private record Limit(RateLimiter limiter, Counter rejected) {
+
+        Limit(MeterRegistry meterRegistry, String name, int capacity, Duration period, long maxKeys) {
+            this(new RateLimiter(capacity, period, maxKeys),
+                    Counter.builder("rate.limit.rejected")
+                            .description("요청 제한으로 거절된 요청 수")
+                            .tag("limit", name)
+                            .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.security;
+
+import java.security.Principal;
+
+/**
+ * SecurityContext 에 저장되는 인증 사용자 정보 (액세스 토큰 클레임에서 생성, DB 조회 없음)
+ *
+ * @param userIndex 사용자 PK
+ * @param userId    로그인 아이디
+ * @param sessionId 로그인 세션(기기) ID (로그아웃 시 해당 세션만 삭제)
+ */
+public record AuthenticatedUser(Long userIndex, String userId, String sessionId) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * 현재 장비에서 BCrypt 를 직접 측정해 목표 지연시간 이하인 최대 strength 를 선택
+ * strength 가 1 오를 때마다 연산량은 2배
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;  // strength 별 측정 횟수
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        long targetNanos = targetLatency.toNanos();
+
+        measure(minStrength);  // JIT 워밍업
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+
+        // 다음 단계(약 2배)도 목표 이하일 것으로 예상될 때만 실제로 측정
+        while (strength < maxStrength && elapsed * 2 <= targetNanos) {
+            long next = measure(strength + 1);
+            if (next > targetNanos) {
+                break;
+            }
+            strength++;
+            elapsed = next;
+        }
+        return strength;
+    }
+
+    // 주어진 strength 의 평균 암호화 시간 (나노초)
+    private static long measure(int strength) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+        }
+        return (System.nanoTime() - start) / SAMPLES;
+    }
+}
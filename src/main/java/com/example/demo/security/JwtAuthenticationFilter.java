@@ -4,8 +4,12 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,13 +17,47 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final Set<String> adminUserIds;  // ROLE_ADMIN 을 부여할 로그인 아이디 (security.admin-user-ids)
+
+    // 인증 결과별 횟수 (검증 시간/실패 사유는 JwtUtil 의 jwt.verify*)
+    private final Counter cachedCounter;
+    private final Counter verifiedCounter;
+    private final Counter invalidCounter;
+    private final Counter revokedCounter;
+
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenDenylist tokenDenylist,
+            MeterRegistry meterRegistry,
+            @Value("${security.admin-user-ids:}") Set<String> adminUserIds) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenDenylist = tokenDenylist;
+        this.adminUserIds = Set.copyOf(adminUserIds);
+        this.cachedCounter = resultCounter(meterRegistry, "cached");
+        this.verifiedCounter = resultCounter(meterRegistry, "verified");
+        this.invalidCounter = resultCounter(meterRegistry, "invalid");
+        this.revokedCounter = resultCounter(meterRegistry, "revoked");
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.authentication")
+                .description("Bearer 토큰 인증 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,17 +69,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Authorization 헤더에서 JWT 토큰 추출
             String token = getTokenFromRequest(request);
 
-            // 2. 토큰이 있고 유효하면
-            if (token != null && jwtUtil.validateToken(token)) {
-                // 3. 토큰에서 userId 추출
-                String userId = jwtUtil.getUserIdFromToken(token);
+            // 2. 토큰이 있으면 캐시 확인 후 필요할 때만 파싱/서명 검증 (로그아웃된 토큰은 차단 목록에서 확인)
+            JwtClaims claims = token != null ? resolveClaims(token) : null;
+
+            if (claims != null && tokenDenylist.isRevoked(claims)) {
+                revokedCounter.increment();
+                claims = null;
+            }
+
+            if (claims != null) {
+                // 3. 검증된 클레임으로 인증 사용자 생성 (DB 조회 없음)
+                AuthenticatedUser principal = new AuthenticatedUser(
+                        claims.userIndex(), claims.userId(), claims.sessionId());
 
                 // 4. Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                principal,
                                 null,
-                                new ArrayList<>()  // 권한 목록 (현재는 비어있음)
+                                authorities(claims.userId())
                         );
 
                 authentication.setDetails(
@@ -60,6 +106,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 권한 목록: 설정된 관리자 아이디만 ROLE_ADMIN (사용자 대량 등록 등)
+    private List<GrantedAuthority> authorities(String userId) {
+        return adminUserIds.contains(userId) ? ADMIN_AUTHORITIES : List.of();
+    }
+
+    // 검증된 토큰 캐시를 먼저 확인하고, 없으면 JwtUtil로 검증 후 캐시에 저장
+    private JwtClaims resolveClaims(String token) {
+        JwtClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            cachedCounter.increment();
+            return cached;
+        }
+
+        // userIndex 가 없는 토큰(리프레시 토큰 등)은 액세스 토큰으로 인정하지 않음
+        JwtClaims claims = jwtUtil.verifyToken(token)
+                .filter(verified -> verified.userIndex() != null)
+                .orElse(null);
+        if (claims != null) {
+            verifiedCounter.increment();
+            verifiedTokenCache.put(token, claims);
+        } else {
+            invalidCounter.increment();
+        }
+        return claims;
+    }
+
     // Authorization 헤더에서 Bearer 토큰 추출
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
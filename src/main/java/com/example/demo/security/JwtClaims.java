@@ -0,0 +1,16 @@
+package com.example.demo.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 (불변 객체)
+ *
+ * @param tokenId   jti (토큰마다 고유한 ID)
+ * @param userId    subject (로그인 아이디)
+ * @param userIndex 사용자 PK (액세스 토큰에만 포함, 리프레시 토큰은 null)
+ * @param sessionId 로그인 세션(기기) ID
+ * @param issuedAt  발급 시각 (밀리초 단위, 이전 버전 토큰은 초 단위)
+ * @param expiresAt 만료 시각
+ */
+public record JwtClaims(String tokenId, String userId, Long userIndex, String sessionId, Instant issuedAt, Instant expiresAt) {
+}
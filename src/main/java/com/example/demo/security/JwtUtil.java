@@ -1,75 +1,151 @@
 package com.example.demo.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final String USER_INDEX_CLAIM = "uidx";  // 사용자 PK 클레임
+    private static final String SESSION_ID_CLAIM = "sid";   // 로그인 세션(기기) 클레임
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";  // 밀리초 단위 발급 시각 (iat 는 초 단위)
 
-    @Value("${jwt.access-expiration}")  // 🆕 액세스 토큰 만료시간
-    private Long accessExpiration;
+    private final Key signingKey;     // 서명 키 (시작 시 한 번만 생성)
+    private final JwtParser parser;   // 파서는 thread-safe 하므로 재사용
 
-    @Value("${jwt.refresh-expiration}")  // 🆕 리프레시 토큰 만료시간
-    private Long refreshExpiration;
+    private final Long accessExpiration;   // 액세스 토큰 만료시간
+    private final Long refreshExpiration;  // 리프레시 토큰 만료시간
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 검증 시간 / 실패 사유별 횟수 (요청마다 태그를 만들지 않도록 미리 생성)
+    private final Timer verifyTimer;
+    private final Counter expiredCounter;
+    private final Counter signatureCounter;
+    private final Counter malformedCounter;
+    private final Counter missingClaimsCounter;
+
+    public JwtUtil(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.access-expiration}") Long accessExpiration,
+            @Value("${jwt.refresh-expiration}") Long refreshExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.accessExpiration = accessExpiration;
+        this.refreshExpiration = refreshExpiration;
+
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 파싱/서명 검증 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.expiredCounter = failureCounter(meterRegistry, "expired");
+        this.signatureCounter = failureCounter(meterRegistry, "signature");
+        this.malformedCounter = failureCounter(meterRegistry, "malformed");
+        this.missingClaimsCounter = failureCounter(meterRegistry, "missing_claims");
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jwt.verify.failures")
+                .description("JWT 검증 실패 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
-    // 🆕 액세스 토큰 생성 (15분)
-    public String generateAccessToken(String userId) {
-        return generateToken(userId, accessExpiration);
+    // 🆕 액세스 토큰 생성 (15분) - userIndex 를 포함해 요청마다 사용자 조회가 필요 없도록 함
+    public String generateAccessToken(Long userIndex, String userId, String sessionId) {
+        return generateToken(userId, userIndex, sessionId, accessExpiration);
     }
 
     // 🆕 리프레시 토큰 생성 (7일)
-    public String generateRefreshToken(String userId) {
-        return generateToken(userId, refreshExpiration);
+    public String generateRefreshToken(String userId, String sessionId) {
+        return generateToken(userId, null, sessionId, refreshExpiration);
     }
 
     // 토큰 생성 (공통 로직)
-    private String generateToken(String userId, Long expiration) {
+    private String generateToken(String userId, Long userIndex, String sessionId, Long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())  // 같은 시각에 발급돼도 토큰이 겹치지 않도록
                 .setSubject(userId)
+                .claim(USER_INDEX_CLAIM, userIndex)  // null 이면 클레임 생략
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())  // 같은 초에 로그아웃돼도 발급 순서를 구분하도록
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    // JWT를 한 번만 파싱/서명 검증하고 클레임 반환 (유효하지 않으면 빈 값)
+    public Optional<JwtClaims> verifyToken(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+
+            // 이 서버가 발급한 토큰은 항상 iat/exp를 가진다
+            if (claims.getIssuedAt() == null || claims.getExpiration() == null) {
+                missingClaimsCounter.increment();
+                return Optional.empty();
+            }
+
+            return Optional.of(new JwtClaims(
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get(USER_INDEX_CLAIM, Long.class),
+                    claims.get(SESSION_ID_CLAIM, String.class),
+                    issuedAt(claims),
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+            return Optional.empty();
+        } catch (SignatureException e) {
+            signatureCounter.increment();
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            malformedCounter.increment();
+            return Optional.empty();
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // iat_ms 가 없는 토큰(이전 버전에서 발급)은 초 단위 iat 사용
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return issuedAtMillis != null
+                ? Instant.ofEpochMilli(issuedAtMillis)
+                : claims.getIssuedAt().toInstant();
+    }
+
     // JWT에서 userId 추출
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     // JWT 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token).isPresent();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.example.demo.security;
+
+import com.example.demo.exception.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+// 공개 인증 API 를 IP 기준으로 제한 (JWT 필터/컨트롤러보다 먼저 실행)
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter authRateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public RateLimitFilter(
+            AuthRateLimiter authRateLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.authRateLimiter = authRateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !authRateLimiter.isLimited(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        try {
+            // 프록시 뒤에서는 server.forward-headers-strategy 설정 시 실제 클라이언트 IP 가 된다
+            authRateLimiter.checkIp(request.getServletPath(), request.getRemoteAddr());
+        } catch (TooManyRequestsException e) {
+            // GlobalExceptionHandler 로 위임해 다른 에러와 같은 형식(429 + Retry-After)으로 응답
+            handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
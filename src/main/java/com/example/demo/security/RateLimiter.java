@@ -0,0 +1,48 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, userId 등)별 토큰 버킷 (GCRA 방식, lock-free)
+ * - 키마다 "다음 요청이 도착해야 할 이론적 시각" 하나만 AtomicLong 으로 보관하고 CAS 로 갱신
+ * - period 동안 capacity 번까지 허용 (한꺼번에 capacity 번 몰려와도 허용)
+ * - period 동안 요청이 없던 키는 버킷이 가득 찬 상태와 같으므로 삭제 (메모리 제한)
+ */
+public class RateLimiter {
+
+    private final long periodNanos;
+    private final long intervalNanos;  // 요청 하나가 차지하는 시간 (period / capacity)
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(int capacity, Duration period, long maxKeys) {
+        this.periodNanos = period.toNanos();
+        this.intervalNanos = periodNanos / capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(나노초)
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(System.nanoTime()));
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+
+            long wait = next - now - periodNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그아웃된 액세스 토큰 차단 목록 (메모리, 요청마다 O(1) 확인)
+ * - 토큰마다 저장하지 않고 "이 시각까지 발급된 토큰은 무효" (not-before) 만 기록
+ * - 시각은 밀리초 단위 (JwtClaims.issuedAt 과 같은 정밀도), 같은 밀리초에 발급된 토큰도 무효
+ * - 세션 단위(userIndex + sid)와 사용자 단위(전체 로그아웃/탈퇴) 두 종류
+ * - 항목은 액세스 토큰 유효시간이 지나면 자동 삭제 (그 전에 발급된 토큰은 이미 만료)
+ * - 크기 제한을 넘으면 세션 항목 → 사용자 항목 → 전체 기준 시각 순으로 넓혀서 보관
+ *   (차단이 풀리는 일은 없고, 더 많은 토큰이 재발급을 요구받을 뿐)
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    private final Duration accessTokenTtl;
+    private final Path snapshotFile;
+
+    private final Cache<String, Instant> sessions;  // "userIndex:sid" → not-before
+    private final Cache<Long, Instant> users;       // userIndex → not-before
+    private final AtomicReference<Instant> globalNotBefore = new AtomicReference<>(Instant.EPOCH);
+
+    public TokenDenylist(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.access-expiration}") long accessExpiration,
+            @Value("${jwt.denylist.max-entries:100000}") long maxEntries,
+            @Value("${jwt.denylist.snapshot-file:}") String snapshotFile) {
+        this.accessTokenTtl = Duration.ofMillis(accessExpiration);
+        this.snapshotFile = StringUtils.hasText(snapshotFile) ? Path.of(snapshotFile) : null;
+
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new NotBeforeExpiry<Long>())
+                .executor(Runnable::run)  // 제거 즉시(같은 스레드에서) 상위 단위로 옮김
+                .<Long, Instant>removalListener((userIndex, notBefore, cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        raiseGlobal(notBefore);
+                    }
+                })
+                .build();
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new NotBeforeExpiry<String>())
+                .executor(Runnable::run)
+                .<String, Instant>removalListener((key, notBefore, cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        revoke(users, Long.valueOf(key.substring(0, key.indexOf(':'))), notBefore);
+                    }
+                })
+                .build();
+
+        Gauge.builder("jwt.denylist.size", this, TokenDenylist::size)
+                .description("로그아웃 차단 목록 항목 수 (세션 + 사용자)")
+                .register(meterRegistry);
+    }
+
+    // 세션 로그아웃: 이 세션에서 지금까지 발급된 액세스 토큰 무효화
+    public void revokeSession(Long userIndex, String sessionId) {
+        revoke(sessions, sessionKey(userIndex, sessionId), now());
+    }
+
+    // 전체 로그아웃/탈퇴: 이 사용자에게 지금까지 발급된 액세스 토큰 무효화
+    public void revokeUser(Long userIndex) {
+        revoke(users, userIndex, now());
+    }
+
+    // 차단된 토큰이면 true (JwtAuthenticationFilter 에서 요청마다 호출)
+    public boolean isRevoked(JwtClaims claims) {
+        Instant issuedAt = claims.issuedAt();
+        if (issuedNotAfter(issuedAt, globalNotBefore.get())) {
+            return true;
+        }
+        if (issuedNotAfter(issuedAt, users.getIfPresent(claims.userIndex()))) {
+            return true;
+        }
+        if (claims.sessionId() == null) {
+            return false;
+        }
+        return issuedNotAfter(issuedAt, sessions.getIfPresent(sessionKey(claims.userIndex(), claims.sessionId())));
+    }
+
+    public long size() {
+        return users.estimatedSize() + sessions.estimatedSize();
+    }
+
+    // 같은 키가 다시 차단되면 더 늦은 시각 유지
+    private <K> void revoke(Cache<K, Instant> cache, K key, Instant notBefore) {
+        cache.asMap().merge(key, notBefore, (current, added) -> current.isAfter(added) ? current : added);
+    }
+
+    private void raiseGlobal(Instant notBefore) {
+        Instant previous = globalNotBefore.getAndAccumulate(notBefore,
+                (current, added) -> current.isAfter(added) ? current : added);
+        if (previous.isBefore(notBefore)) {
+            log.warn("토큰 차단 목록이 가득 차 {} 이전 발급 토큰을 모두 무효화합니다", notBefore);
+        }
+    }
+
+    private static String sessionKey(Long userIndex, String sessionId) {
+        return userIndex + ":" + sessionId;
+    }
+
+    // 차단 시각과 같은 밀리초에 발급된 토큰은 로그아웃 전후를 구분할 수 없으므로 차단 쪽으로 처리
+    private static boolean issuedNotAfter(Instant issuedAt, Instant notBefore) {
+        return notBefore != null && !issuedAt.isAfter(notBefore);
+    }
+
+    // 토큰 발급 시각(iat_ms)과 같은 밀리초 단위로 맞춤
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    // ---- 재시작 대비 스냅샷 (jwt.denylist.snapshot-file 설정 시) ----
+    // 형식: 한 줄에 "G|U|S <키> <not-before epoch 밀리초>"
+
+    @PostConstruct
+    void loadSnapshot() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(snapshotFile, StandardCharsets.UTF_8);
+            Instant oldestValid = Instant.now().minus(accessTokenTtl);
+            for (String line : lines) {
+                String[] parts = line.split(" ", 3);
+                if (parts.length != 3) {
+                    continue;
+                }
+                Instant notBefore = Instant.ofEpochMilli(Long.parseLong(parts[2]));
+                if (notBefore.isBefore(oldestValid)) {
+                    continue;  // 이미 모든 대상 토큰이 만료됨
+                }
+                switch (parts[0]) {
+                    case "G" -> raiseGlobal(notBefore);
+                    case "U" -> revoke(users, Long.valueOf(parts[1]), notBefore);
+                    case "S" -> revoke(sessions, parts[1], notBefore);
+                    default -> { }
+                }
+            }
+            log.info("토큰 차단 목록 스냅샷 로드: {}건", size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("토큰 차단 목록 스냅샷을 읽지 못했습니다: {}", snapshotFile, e);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${jwt.denylist.snapshot-interval-ms:60000}")
+    public void saveSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "denylist", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writeLine(writer, "G", "-", globalNotBefore.get());
+                for (Map.Entry<Long, Instant> entry : users.asMap().entrySet()) {
+                    writeLine(writer, "U", entry.getKey().toString(), entry.getValue());
+                }
+                for (Map.Entry<String, Instant> entry : sessions.asMap().entrySet()) {
+                    writeLine(writer, "S", entry.getKey(), entry.getValue());
+                }
+            }
+            // 쓰는 도중 종료되어도 이전 스냅샷이 깨지지 않도록 교체
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("토큰 차단 목록 스냅샷 저장 실패: {}", snapshotFile, e);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String type, String key, Instant notBefore) throws IOException {
+        writer.write(type + " " + key + " " + notBefore.toEpochMilli());
+        writer.newLine();
+    }
+
+    // not-before 이후 액세스 토큰 유효시간이 지나면 항목 삭제
+    private class NotBeforeExpiry<K> implements Expiry<K, Instant> {
+
+        @Override
+        public long expireAfterCreate(K key, Instant notBefore, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), notBefore.plus(accessTokenTtl));
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Instant notBefore, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, notBefore, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Instant notBefore, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
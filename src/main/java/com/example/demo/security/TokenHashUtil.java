@@ -0,0 +1,26 @@
+package com.example.demo.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 원문 대신 저장/비교에 사용하는 SHA-256 다이제스트
+public final class TokenHashUtil {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenHashUtil() {
+    }
+
+    // SHA-256 해시를 64자리 16진수 문자열로 반환
+    public static String sha256Hex(String token) {
+        try {
+            // MessageDigest는 thread-safe 하지 않으므로 호출마다 생성
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
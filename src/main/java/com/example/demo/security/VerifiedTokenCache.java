@@ -0,0 +1,91 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰 캐시
+ * - 키: 토큰의 SHA-256 다이제스트 (원문은 보관하지 않음)
+ * - 만료: 토큰 자체의 exp 와 최대 보관 시간 중 빠른 쪽
+ * - 크기 제한을 넘으면 오래 사용되지 않은 항목부터 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl:15m}") Duration maxTtl) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()  // 적중/실패 횟수 기록
+                .build();
+
+        // cache.gets{cache=jwt.verified,result=hit} = 절약한 서명 검증 횟수
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    // 캐시에 있으면 검증된 클레임 반환, 없으면 null
+    public JwtClaims get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(TokenHashUtil.sha256Hex(token));
+    }
+
+    public void put(String token, JwtClaims claims) {
+        if (!enabled || !claims.expiresAt().isAfter(Instant.now())) {
+            return;
+        }
+        cache.put(TokenHashUtil.sha256Hex(token), claims);
+    }
+
+    // 적중/실패/제거 통계 (절약한 서명 검증 횟수 = hitCount)
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 항목마다 토큰의 남은 유효시간까지만 보관
+    private class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
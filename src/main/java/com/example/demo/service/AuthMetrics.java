@@ -0,0 +1,43 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 API 처리 시간 (요청마다 태그를 만들지 않도록 미리 생성)
+ * - auth.duration: 요청 전체 (BCrypt 대기/연산 포함)
+ * - auth.db.duration: DB 작업 구간 (BCrypt 연산 시간은 password.hashing.duration)
+ */
+@Getter
+@Component
+public class AuthMetrics {
+
+    private final Timer loginTimer;
+    private final Timer registerTimer;
+    private final Timer refreshTimer;
+
+    private final Timer loginLookupDbTimer;  // 로그인 사용자 조회
+    private final Timer loginIssueDbTimer;   // 리프레시 토큰 저장 (upsert, 새 세션이면 세션 수 제한)
+    private final Timer registerDbTimer;     // 회원 저장
+    private final Timer refreshDbTimer;      // 리프레시 토큰 조회 + 교체
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.loginTimer = timer(meterRegistry, "auth.duration", "operation", "login");
+        this.registerTimer = timer(meterRegistry, "auth.duration", "operation", "register");
+        this.refreshTimer = timer(meterRegistry, "auth.duration", "operation", "refresh");
+
+        this.loginLookupDbTimer = timer(meterRegistry, "auth.db.duration", "step", "login.lookup");
+        this.loginIssueDbTimer = timer(meterRegistry, "auth.db.duration", "step", "login.issue");
+        this.registerDbTimer = timer(meterRegistry, "auth.db.duration", "step", "register.save");
+        this.refreshDbTimer = timer(meterRegistry, "auth.db.duration", "step", "refresh.rotate");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
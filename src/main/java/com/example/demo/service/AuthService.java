@@ -1,52 +1,101 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.UserCache;
 import com.example.demo.dto.*;
 import com.example.demo.entity.RefreshToken;
 import com.example.demo.entity.User;
-import com.example.demo.exception.DuplicateResourceException;
-import com.example.demo.exception.ForbiddenException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.ServiceUnavailableException;
 import com.example.demo.exception.UnauthorizedException;
 import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.SessionRef;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AuthRateLimiter;
+import com.example.demo.security.AuthenticatedUser;
+import com.example.demo.security.JwtClaims;
 import com.example.demo.security.JwtUtil;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.demo.security.TokenDenylist;
+import com.example.demo.security.TokenHashUtil;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final long REFRESH_TOKEN_DAYS = 7;  // 리프레시 토큰 보관 기간 (jwt.refresh-expiration 과 동일)
+    private static final int UPSERT_INSERTED = 1;      // upsert 영향 행 수: 새 세션 INSERT
+
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;          // 쓰기 구간
+    private final TransactionTemplate readOnlyTransactionTemplate;  // 조회 구간 (레플리카 설정 시 replica)
     private final JwtUtil jwtUtil;
+    private final UserDuplicateChecker userDuplicateChecker;
+    private final UserCache userCache;
+    private final TokenDenylist tokenDenylist;
+    private final AuthRateLimiter authRateLimiter;
+    private final AuthMetrics authMetrics;
 
-    @Transactional
-    public UserResponseDto register(UserRequestDto requestDto) {
-        if (userRepository.existsByUserId(requestDto.getUserId())) {
-            throw new DuplicateResourceException("이미 존재하는 아이디입니다");
-        }
+    private final int maxSessions;  // 사용자당 최대 로그인 세션(기기) 수
 
-        if (userRepository.existsByPhone(requestDto.getPhone())) {
-            throw new DuplicateResourceException("이미 존재하는 전화번호입니다");
-        }
+    public AuthService(
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            PasswordHashingService passwordHashingService,
+            TransactionTemplate transactionTemplate,
+            JwtUtil jwtUtil,
+            UserDuplicateChecker userDuplicateChecker,
+            UserCache userCache,
+            TokenDenylist tokenDenylist,
+            AuthRateLimiter authRateLimiter,
+            AuthMetrics authMetrics,
+            @Value("${refresh-token.max-sessions:5}") int maxSessions) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.jwtUtil = jwtUtil;
+        this.userDuplicateChecker = userDuplicateChecker;
+        this.userCache = userCache;
+        this.tokenDenylist = tokenDenylist;
+        this.authRateLimiter = authRateLimiter;
+        this.authMetrics = authMetrics;
+        this.maxSessions = maxSessions;
+    }
 
-        if (requestDto.getEmail() != null && !requestDto.getEmail().isEmpty()) {
-            if (userRepository.existsByEmail(requestDto.getEmail())) {
-                throw new DuplicateResourceException("이미 존재하는 이메일입니다");
-            }
-        }
+    // 중복 검사는 요청 스레드에서, BCrypt 암호화는 전용 스레드 풀에서 수행 후 저장
+    // (비동기 콜백이 요청 스레드에서 실행돼도 readOnly 트랜잭션/레플리카 커넥션에 참여하지 않도록
+    //  클래스 트랜잭션 밖에서 실행하고, 조회와 저장은 각각 별도 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserResponseDto> register(UserRequestDto requestDto) {
+        return recordAsync(authMetrics.getRegisterTimer(), () -> {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> userDuplicateChecker.check(
+                    requestDto.getUserId(), requestDto.getPhone(), requestDto.getEmail()));
 
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
+            return passwordHashingService.encode(requestDto.getPassword())
+                    .thenApply(encodedPassword -> authMetrics.getRegisterDbTimer().record(
+                            () -> transactionTemplate.execute(status -> saveUser(requestDto, encodedPassword))));
+        });
+    }
 
+    private UserResponseDto saveUser(UserRequestDto requestDto, String encodedPassword) {
         User user = new User();
         user.setUserId(requestDto.getUserId());
         user.setPassword(encodedPassword);
@@ -55,74 +104,180 @@ public class AuthService {
         user.setPhone(requestDto.getPhone());
         user.setEmail(requestDto.getEmail());
 
-        User savedUser = userRepository.save(user);
-        return new UserResponseDto(savedUser);
+        try {
+            User savedUser = userRepository.saveAndFlush(user);
+            userCache.evictAfterCommit(savedUser.getUserIndex());
+            return new UserResponseDto(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            throw userDuplicateChecker.translate(e);
+        }
     }
 
-    @Transactional
-    public LoginResponseDto login(LoginRequestDto requestDto) {
-        User user = userRepository.findByUserId(requestDto.getUserId())
-                .orElseThrow(() -> new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다"));
+    // 사용자 조회는 요청 스레드에서, 비밀번호 검증은 전용 스레드 풀에서 수행 후 토큰 발급
+    // (register 와 같은 이유로 클래스 트랜잭션 밖에서 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<LoginResponseDto> login(LoginRequestDto requestDto) {
+        // 계정 단위 제한 (IP 제한은 RateLimitFilter), 초과 시 조회/BCrypt 없이 429
+        authRateLimiter.checkLoginUser(requestDto.getUserId());
+
+        return recordAsync(authMetrics.getLoginTimer(), () -> {
+            User user = authMetrics.getLoginLookupDbTimer().record(() -> readOnlyTransactionTemplate.execute(
+                            status -> userRepository.findByUserId(requestDto.getUserId())))
+                    .orElseThrow(() -> new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다"));
+
+            return passwordHashingService.matches(requestDto.getPassword(), user.getPassword())
+                    .thenApply(matched -> {
+                        if (!matched) {
+                            throw new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다");
+                        }
+                        if (passwordHashingService.needsRehash(user.getPassword())) {
+                            rehashPassword(user.getUserIndex(), user.getPassword(), requestDto.getPassword());
+                        }
+                        return authMetrics.getLoginIssueDbTimer().record(
+                                () -> transactionTemplate.execute(status -> issueTokens(user, requestDto.getDeviceId())));
+                    });
+        });
+    }
 
-        if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
-            throw new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다");
+    // 비동기 작업 전체 시간 기록 - future 를 만들기 전에 실패해도 (없는 아이디, 중복, 대기열 초과) 기록
+    private static <T> CompletableFuture<T> recordAsync(Timer timer, Supplier<CompletableFuture<T>> operation) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return operation.get().whenComplete((result, ex) -> sample.stop(timer));
+        } catch (RuntimeException e) {
+            sample.stop(timer);
+            throw e;
         }
+    }
 
-        String accessToken = jwtUtil.generateAccessToken(user.getUserId());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId());
+    // 저장된 해시의 cost 가 현재 strength 와 다르면 백그라운드로 재암호화 (로그인 응답은 기다리지 않음)
+    // 엔티티로 변경해 2차 캐시에서 이 사용자 항목만 갱신 (JPQL bulk UPDATE 는 users region 전체를 비움)
+    private void rehashPassword(Long userIndex, String verifiedPassword, String rawPassword) {
+        try {
+            passwordHashingService.encode(rawPassword)
+                    .thenAccept(encodedPassword -> transactionTemplate.executeWithoutResult(
+                            status -> userRepository.findById(userIndex)
+                                    // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+                                    .filter(user -> user.getPassword().equals(verifiedPassword))
+                                    .ifPresent(user -> user.setPassword(encodedPassword))))
+                    .exceptionally(ex -> {
+                        log.warn("비밀번호 재암호화 실패: userIndex={}", userIndex, ex);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            // 대기열이 가득 차면 다음 로그인 때 다시 시도
+        }
+    }
 
-        refreshTokenRepository.deleteByUserIndex(user.getUserIndex());
+    // 기기 ID 가 같으면 기존 세션을 교체, 다르면 새 세션 추가 (다른 기기의 세션은 유지)
+    private LoginResponseDto issueTokens(User user, String deviceId) {
+        String sessionId = deviceId != null ? deviceId : UUID.randomUUID().toString();
+        String accessToken = jwtUtil.generateAccessToken(user.getUserIndex(), user.getUserId(), sessionId);
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), sessionId);
 
-        RefreshToken refreshTokenEntity = new RefreshToken(
+        // DB 에는 원문 대신 고정 길이(64자) 해시만 저장, 같은 세션의 기존 토큰은 같은 문장에서 교체
+        LocalDateTime now = LocalDateTime.now();
+        int affectedRows = refreshTokenRepository.upsert(
                 user.getUserIndex(),
-                refreshToken,
-                LocalDateTime.now().plusDays(7)
+                sessionId,
+                TokenHashUtil.sha256Hex(refreshToken),
+                now.plusDays(REFRESH_TOKEN_DAYS),
+                now
         );
-        refreshTokenRepository.save(refreshTokenEntity);
+        // ON DUPLICATE KEY UPDATE 는 새 행이면 1, 기존 세션 교체면 2 → 세션 수가 늘어난 경우에만 제한 확인
+        // (같은 기기로 다시 로그인하면 문장 하나로 끝남)
+        if (affectedRows == UPSERT_INSERTED) {
+            evictOldestSessions(user.getUserIndex());
+        }
 
         return new LoginResponseDto(accessToken, refreshToken, user.getUserId(), user.getName());
     }
 
-    @Transactional
+    // 해시 조회 1회 (만료 확인 포함) + 교체 UPDATE 1회, 사용자 테이블은 조회하지 않음
+    // (클래스의 readOnly 트랜잭션에 참여하지 않도록 하고, DB 구간만 transactionTemplate 으로 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponseDto refresh(RefreshRequestDto requestDto) {
-        if (!jwtUtil.validateToken(requestDto.getRefreshToken())) {
-            throw new UnauthorizedException("유효하지 않은 리프레시 토큰입니다");
-        }
+        Timer.Sample sample = Timer.start();
+        try {
+            JwtClaims claims = jwtUtil.verifyToken(requestDto.getRefreshToken())
+                    .orElseThrow(() -> new UnauthorizedException("유효하지 않은 리프레시 토큰입니다"));
 
-        String userId = jwtUtil.getUserIdFromToken(requestDto.getRefreshToken());
+            String tokenHash = TokenHashUtil.sha256Hex(requestDto.getRefreshToken());
+
+            return authMetrics.getRefreshDbTimer().record(
+                    () -> transactionTemplate.execute(status -> rotateRefreshToken(claims, tokenHash)));
+        } finally {
+            sample.stop(authMetrics.getRefreshTimer());
+        }
+    }
 
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    private TokenResponseDto rotateRefreshToken(JwtClaims claims, String tokenHash) {
+        RefreshToken storedToken = refreshTokenRepository
+                .findByTokenHashAndExpiresAtAfter(tokenHash, LocalDateTime.now())
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않거나 만료된 리프레시 토큰입니다"));
 
-        RefreshToken storedToken = refreshTokenRepository.findByUserIndex(user.getUserIndex())
-                .orElseThrow(() -> new UnauthorizedException("리프레시 토큰이 존재하지 않습니다"));
+        String userId = claims.userId();
+        String sessionId = storedToken.getSessionId();
+        String newRefreshToken = jwtUtil.generateRefreshToken(userId, sessionId);
+        LocalDateTime now = LocalDateTime.now();
 
-        if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-            refreshTokenRepository.delete(storedToken);
-            throw new UnauthorizedException("만료된 리프레시 토큰입니다");
+        // 동시에 같은 토큰으로 재발급을 요청하면 한 요청만 성공
+        int rotated = refreshTokenRepository.rotate(
+                storedToken.getId(),
+                tokenHash,
+                TokenHashUtil.sha256Hex(newRefreshToken),
+                now.plusDays(REFRESH_TOKEN_DAYS),
+                now
+        );
+        if (rotated == 0) {
+            throw new UnauthorizedException("이미 사용된 리프레시 토큰입니다");
         }
 
-        if (!requestDto.getRefreshToken().equals(storedToken.getToken())) {
-            throw new UnauthorizedException("유효하지 않은 리프레시 토큰입니다");
-        }
+        String newAccessToken = jwtUtil.generateAccessToken(storedToken.getUserIndex(), userId, sessionId);
 
-        String newAccessToken = jwtUtil.generateAccessToken(userId);
+        return new TokenResponseDto(newAccessToken, newRefreshToken);
+    }
 
-        return new TokenResponseDto(newAccessToken);
+    // 세션 수가 제한을 넘으면 가장 오래 사용하지 않은 세션부터 삭제
+    // 삭제한 세션의 액세스 토큰도 만료 전까지 쓰이지 않도록 denylist 에 올린다
+    private void evictOldestSessions(Long userIndex) {
+        List<SessionRef> sessions = refreshTokenRepository.findSessionsByUserIndexNewestFirst(userIndex);
+        if (sessions.size() <= maxSessions) {
+            return;
+        }
+        List<SessionRef> evicted = sessions.subList(maxSessions, sessions.size());
+        refreshTokenRepository.deleteByIdIn(evicted.stream().map(SessionRef::getId).toList());
+        evicted.forEach(session -> tokenDenylist.revokeSession(userIndex, session.getSessionId()));
     }
 
+    // 현재 세션만 로그아웃 (액세스 토큰의 userIndex/sid 로 바로 삭제, 사용자 조회 없음)
     @Transactional
-    public void logout(String userId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUserId = (String) authentication.getPrincipal();
+    public void logout(AuthenticatedUser currentUser) {
+        refreshTokenRepository.deleteByUserIndexAndSessionId(currentUser.userIndex(), currentUser.sessionId());
+        tokenDenylist.revokeSession(currentUser.userIndex(), currentUser.sessionId());
+    }
 
-        if (!currentUserId.equals(userId)) {
-            throw new ForbiddenException("본인만 로그아웃할 수 있습니다");
-        }
+    // 모든 기기에서 로그아웃 (DELETE 한 번)
+    @Transactional
+    public void logoutAll(Long userIndex) {
+        refreshTokenRepository.deleteByUserIndex(userIndex);
+        tokenDenylist.revokeUser(userIndex);
+    }
 
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    // 로그인 세션 목록 (최근 사용 순)
+    public List<SessionResponseDto> getSessions(AuthenticatedUser currentUser) {
+        return refreshTokenRepository.findByUserIndexOrderByLastUsedAtDescIdDesc(currentUser.userIndex())
+                .stream()
+                .map(token -> new SessionResponseDto(token, currentUser.sessionId()))
+                .toList();
+    }
 
-        refreshTokenRepository.deleteByUserIndex(user.getUserIndex());
+    // 특정 세션 해제 (다른 기기 로그아웃)
+    @Transactional
+    public void revokeSession(Long userIndex, String sessionId) {
+        if (refreshTokenRepository.deleteByUserIndexAndSessionId(userIndex, sessionId) == 0) {
+            throw new ResourceNotFoundException("세션을 찾을 수 없습니다");
+        }
+        tokenDenylist.revokeSession(userIndex, sessionId);
     }
 }
\ No newline at end of file
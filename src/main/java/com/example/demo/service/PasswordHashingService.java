@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 암호화/검증 전용 스레드 풀
+ * - 요청 스레드(Tomcat)가 BCrypt 연산(~100ms CPU)으로 모두 점유되지 않도록 분리
+ * - 스레드 수는 CPU 코어 수, 대기열은 고정 크기
+ * - 대기열이 가득 차면 기다리지 않고 즉시 503 으로 거절
+ * - 사용자 대량 등록도 같은 풀 사용 (encodeAll, 동시에 스레드 수만큼만 제출)
+ * - BCrypt 이후 단계(DB 저장/토큰 발급)는 applicationTaskExecutor 에서 실행 (CPU 전용 스레드가 DB 응답을 기다리지 않도록,
+ *   spring.threads.virtual.enabled=true 이면 가상 스레드)
+ * - applicationTaskExecutor 도 한도(spring.task.execution.*)를 넘으면 503 (이미 끝난 BCrypt 연산은 버려짐)
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Executor callbackExecutor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") Executor callbackExecutor,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()  // 대기열 초과 시 RejectedExecutionException
+        );
+
+        // 대기열 길이 / 실행 중인 작업 수
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("BCrypt 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("BCrypt 실행 중인 작업 수")
+                .register(meterRegistry);
+
+        // BCrypt 연산 시간 (대기 시간 제외)
+        this.encodeTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("대기열 초과로 거절된 요청 수")
+                .register(meterRegistry);
+
+        // 이후 단계 실행이 거절되면 future 가 503 으로 끝나도록 변환
+        this.callbackExecutor = task -> {
+            try {
+                callbackExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                throw rejected();
+            }
+        };
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮아 재암호화가 필요한지 (CPU 연산 없음)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 대량 암호화 (사용자 대량 등록): 같은 스레드 풀/대기열을 사용하되 동시에 스레드 수만큼만 제출해
+    // 로그인/회원가입 대기열을 차지하지 않음, 대기열이 가득 차면 503 (호출 스레드는 모두 끝날 때까지 대기, 순서 유지)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        Semaphore inFlight = new Semaphore(executor.getMaximumPoolSize());
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                inFlight.acquire();
+                CompletableFuture<String> future = hash(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+                future.whenComplete((result, ex) -> inFlight.release());
+                futures.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("비밀번호 암호화가 중단되었습니다");
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer timer) {
+        return hash(task, timer).thenApplyAsync(Function.identity(), callbackExecutor);
+    }
+
+    private <T> CompletableFuture<T> hash(Supplier<T> task, Timer timer) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            throw rejected();
+        }
+    }
+
+    private ServiceUnavailableException rejected() {
+        rejectedCounter.increment();
+        return new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
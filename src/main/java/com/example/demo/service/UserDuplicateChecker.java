@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.User;
+import com.example.demo.exception.DuplicateResourceException;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.UserUniqueFields;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+// 아이디/전화번호/이메일 중복 검사 (회원가입, 사용자 생성/수정 공통)
+@Component
+@RequiredArgsConstructor
+public class UserDuplicateChecker {
+
+    static final String DUPLICATE_USER_ID = "이미 존재하는 아이디입니다";
+    static final String DUPLICATE_PHONE = "이미 존재하는 전화번호입니다";
+    static final String DUPLICATE_EMAIL = "이미 존재하는 이메일입니다";
+
+    private final UserRepository userRepository;
+
+    // 한 번의 조회로 모든 고유 필드 중복 검사 (null 또는 빈 값인 필드는 검사하지 않음)
+    public void check(String rawUserId, String rawPhone, String rawEmail) {
+        String userId = emptyToNull(rawUserId);
+        String phone = emptyToNull(rawPhone);
+        String email = emptyToNull(rawEmail);
+
+        if (userId == null && phone == null && email == null) {
+            return;
+        }
+
+        List<UserUniqueFields> conflicts = userRepository.findUniqueFieldConflicts(userId, phone, email);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        // 기존과 같은 우선순위(아이디 → 전화번호 → 이메일)로 메시지 결정
+        if (userId != null && conflicts.stream().anyMatch(c -> userId.equals(c.getUserId()))) {
+            throw new DuplicateResourceException(DUPLICATE_USER_ID);
+        }
+        if (phone != null && conflicts.stream().anyMatch(c -> phone.equals(c.getPhone()))) {
+            throw new DuplicateResourceException(DUPLICATE_PHONE);
+        }
+        throw new DuplicateResourceException(DUPLICATE_EMAIL);
+    }
+
+    // INSERT/UPDATE 중 유니크 제약조건 위반을 같은 메시지의 DuplicateResourceException 으로 변환
+    // (동시 가입으로 사전 검사를 통과한 경우에도 올바른 에러 응답)
+    public DuplicateResourceException translate(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        message = message != null ? message.toLowerCase(Locale.ROOT) : "";
+
+        if (message.contains(User.UK_USER_ID)) {
+            return new DuplicateResourceException(DUPLICATE_USER_ID);
+        }
+        if (message.contains(User.UK_PHONE)) {
+            return new DuplicateResourceException(DUPLICATE_PHONE);
+        }
+        if (message.contains(User.UK_EMAIL)) {
+            return new DuplicateResourceException(DUPLICATE_EMAIL);
+        }
+        return new DuplicateResourceException("이미 존재하는 사용자 정보입니다");
+    }
+
+    private String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UserImportResponseDto;
+import com.example.demo.dto.UserImportResponseDto.RowResult;
+import com.example.demo.dto.UserRequestDto;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 대량 등록
+ * - 행별 검증은 UserRequestDto 의 제약조건을 그대로 사용
+ * - 중복 검사는 IN 절 집합 조회로 처리 (행마다 조회하지 않음)
+ * - 비밀번호 암호화는 PasswordHashingService 의 BCrypt 전용 스레드 풀에서 수행 (로그인/회원가입과 같은 대기열 제한, 초과 시 503)
+ * - 저장은 JDBC 배치 INSERT (배치 단위 트랜잭션)
+ *
+ * User 엔티티는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 불가능하므로
+ * 이 경로만 JdbcTemplate 으로 저장하고 PK 는 AUTO_INCREMENT 가 그대로 부여한다.
+ * MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 주면 배치가 multi-row INSERT 로 전송된다.
+ */
+@Service
+public class UserImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO users "
+            + "(user_id, password, name, gender, phone, email, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int IN_CLAUSE_SIZE = 1000;  // 중복 검사 IN 절 최대 개수
+
+    private final UserRepository userRepository;
+    private final UserDuplicateChecker userDuplicateChecker;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+
+    private final int batchSize;  // JDBC 배치 크기
+    private final int maxRows;    // 한 요청 최대 행 수
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserDuplicateChecker userDuplicateChecker,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordHashingService passwordHashingService,
+            Validator validator,
+            @Value("${user.import.batch-size:500}") int batchSize,
+            @Value("${user.import.max-rows:1000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.userDuplicateChecker = userDuplicateChecker;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashingService = passwordHashingService;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    public UserImportResponseDto importUsers(List<UserRequestDto> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new BadRequestException("등록할 사용자가 없습니다");
+        }
+        if (rows.size() > maxRows) {
+            throw new BadRequestException("한 번에 최대 " + maxRows + "명까지 등록할 수 있습니다");
+        }
+
+        RowResult[] results = new RowResult[rows.size()];
+
+        // 1. 행별 검증 + 요청 내부 중복 검사
+        List<Integer> candidates = validateRows(rows, results);
+
+        // 2. DB에 이미 존재하는 값 제외 (집합 조회)
+        candidates = excludeExisting(rows, candidates, results);
+
+        // 3. 비밀번호 암호화 후 배치 INSERT
+        insertInBatches(rows, candidates, results);
+
+        int succeeded = (int) Arrays.stream(results).filter(RowResult::isSuccess).count();
+        return new UserImportResponseDto(rows.size(), succeeded, rows.size() - succeeded, Arrays.asList(results));
+    }
+
+    // CSV 업로드 (첫 줄은 헤더: userId,password,name,gender,phone,email)
+    // 단순 콤마 구분만 지원하며 따옴표로 감싼 값은 지원하지 않음
+    public UserImportResponseDto importCsv(InputStream inputStream) throws IOException {
+        return importUsers(parseCsv(inputStream));
+    }
+
+    private List<Integer> validateRows(List<UserRequestDto> rows, RowResult[] results) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            UserRequestDto row = rows.get(i);
+            if (row == null) {
+                results[i] = failure(i, null, "빈 행입니다");
+                continue;
+            }
+
+            if (row.getEmail() != null && row.getEmail().trim().isEmpty()) {
+                row.setEmail(null);  // 빈 이메일은 NULL로 저장
+            }
+
+            Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = failure(i, row, message);
+            } else if (!userIds.add(row.getUserId())) {
+                results[i] = failure(i, row, "요청 내에서 중복된 아이디입니다");
+            } else if (!phones.add(row.getPhone())) {
+                results[i] = failure(i, row, "요청 내에서 중복된 전화번호입니다");
+            } else if (row.getEmail() != null && !emails.add(row.getEmail())) {
+                results[i] = failure(i, row, "요청 내에서 중복된 이메일입니다");
+            } else {
+                candidates.add(i);
+            }
+        }
+        return candidates;
+    }
+
+    private List<Integer> excludeExisting(List<UserRequestDto> rows, List<Integer> candidates, RowResult[] results) {
+        Set<String> existingUserIds = findExisting(
+                candidates.stream().map(i -> rows.get(i).getUserId()).toList(),
+                userRepository::findExistingUserIds);
+        Set<String> existingPhones = findExisting(
+                candidates.stream().map(i -> rows.get(i).getPhone()).toList(),
+                userRepository::findExistingPhones);
+        Set<String> existingEmails = findExisting(
+                candidates.stream().map(i -> rows.get(i).getEmail()).filter(email -> email != null).toList(),
+                userRepository::findExistingEmails);
+
+        List<Integer> remaining = new ArrayList<>(candidates.size());
+        for (Integer i : candidates) {
+            UserRequestDto row = rows.get(i);
+            if (existingUserIds.contains(row.getUserId())) {
+                results[i] = failure(i, row, UserDuplicateChecker.DUPLICATE_USER_ID);
+            } else if (existingPhones.contains(row.getPhone())) {
+                results[i] = failure(i, row, UserDuplicateChecker.DUPLICATE_PHONE);
+            } else if (row.getEmail() != null && existingEmails.contains(row.getEmail())) {
+                results[i] = failure(i, row, UserDuplicateChecker.DUPLICATE_EMAIL);
+            } else {
+                remaining.add(i);
+            }
+        }
+        return remaining;
+    }
+
+    // IN 절이 너무 길어지지 않도록 나눠서 조회
+    private Set<String> findExisting(List<String> values, Function<Collection<String>, List<String>> query) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_SIZE) {
+            existing.addAll(query.apply(values.subList(from, Math.min(from + IN_CLAUSE_SIZE, values.size()))));
+        }
+        return existing;
+    }
+
+    private void insertInBatches(List<UserRequestDto> rows, List<Integer> candidates, RowResult[] results) {
+        // 저장 전에 모두 암호화 (대기열 초과로 503 이 나면 아무 행도 저장되지 않음)
+        List<String> encodedPasswords = passwordHashingService.encodeAll(
+                candidates.stream().map(i -> rows.get(i).getPassword()).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+            List<String> chunkPasswords = encodedPasswords.subList(from, from + chunk.size());
+
+            try {
+                // 배치 단위 트랜잭션: 하나라도 실패하면 해당 배치 전체 롤백
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                                UserRequestDto row = rows.get(chunk.get(index));
+                                ps.setString(1, row.getUserId());
+                                ps.setString(2, chunkPasswords.get(index));
+                                ps.setString(3, row.getName());
+                                ps.setString(4, row.getGender());
+                                ps.setString(5, row.getPhone());
+                                ps.setString(6, row.getEmail());
+                                ps.setObject(7, now);
+                                ps.setObject(8, now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        }));
+
+                for (Integer i : chunk) {
+                    results[i] = new RowResult(i + 1, rows.get(i).getUserId(), true, null);
+                }
+            } catch (DataIntegrityViolationException e) {
+                // 검사 이후 동시 등록 등으로 제약조건 위반 → 해당 배치만 실패 처리
+                String message = "배치 저장 실패: " + userDuplicateChecker.translate(e).getMessage();
+                for (Integer i : chunk) {
+                    results[i] = failure(i, rows.get(i), message);
+                }
+            }
+        }
+    }
+
+    private List<UserRequestDto> parseCsv(InputStream inputStream) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BadRequestException("CSV 파일이 비어 있습니다");
+            }
+
+            // 헤더 이름으로 컬럼 위치 결정 (UTF-8 BOM 제거)
+            String[] columns = header.replace("\uFEFF", "").split(",", -1);
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                positions.put(columns[i].trim(), i);
+            }
+            for (String required : List.of("userId", "password", "name", "gender", "phone")) {
+                if (!positions.containsKey(required)) {
+                    throw new BadRequestException("CSV 헤더에 " + required + " 컬럼이 없습니다");
+                }
+            }
+
+            List<UserRequestDto> rows = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rows.size() >= maxRows) {
+                    throw new BadRequestException("한 번에 최대 " + maxRows + "명까지 등록할 수 있습니다");
+                }
+
+                String[] values = line.split(",", -1);
+                UserRequestDto row = new UserRequestDto();
+                row.setUserId(csvValue(values, positions, "userId"));
+                row.setPassword(csvValue(values, positions, "password"));
+                row.setName(csvValue(values, positions, "name"));
+                row.setGender(csvValue(values, positions, "gender"));
+                row.setPhone(csvValue(values, positions, "phone"));
+                row.setEmail(csvValue(values, positions, "email"));
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+
+    private String csvValue(String[] values, Map<String, Integer> positions, String column) {
+        Integer position = positions.get(column);
+        if (position == null || position >= values.length) {
+            return null;
+        }
+        String value = values[position].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private RowResult failure(int index, UserRequestDto row, String message) {
+        return new RowResult(index + 1, row != null ? row.getUserId() : null, false, message);
+    }
+}
@@ -1,61 +1,180 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.UserCache;
+import com.example.demo.datasource.ReadYourWritesTracker;
+import com.example.demo.dto.UserField;
+import com.example.demo.dto.UserPageResponseDto;
 import com.example.demo.dto.UserRequestDto;
 import com.example.demo.dto.UserResponseDto;
 import com.example.demo.entity.User;
-import com.example.demo.exception.DuplicateResourceException;
+import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.ForbiddenException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.RefreshTokenRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AuthenticatedUser;
+import com.example.demo.security.TokenDenylist;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;     // 한 페이지 최대 크기 (서버에서 강제)
+    private static final int EXPORT_FLUSH_SIZE = 1000;  // 내보내기 시 flush 간격 (행 수)
+    private static final SmileMapper SMILE_MAPPER = SmileMapper.shared();  // 기본 설정 (MVC 의 Smile 변환기와 동일)
+
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDuplicateChecker userDuplicateChecker;
+    private final UserCache userCache;
+    private final TokenDenylist tokenDenylist;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ObjectMapper objectMapper;
 
-    public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(UserResponseDto::new)
-                .collect(Collectors.toList());
+    // 내보내기 형식
+    public enum ExportFormat {
+        NDJSON,  // 한 줄에 JSON 하나
+        SMILE    // Smile 값 연속 (헤더와 필드명 테이블을 스트림 전체에서 한 번만 사용)
     }
 
-    public UserResponseDto getUserById(Long userIndex) {
-        User user = userRepository.findById(userIndex)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-        return new UserResponseDto(user);
+    // 키셋 페이지네이션: after 커서 이후의 사용자를 limit 개만 조회
+    // fields 를 지정하면 해당 컬럼만 조회해서 그 필드만 응답 (userIndex 는 커서로 쓰이므로 항상 포함)
+    public UserPageResponseDto<?> getUsers(String after, int limit, String fields) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long lastUserIndex = after != null ? decodeCursor(after) : 0L;
+        List<UserField> selected = parseFields(fields);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        if (selected == null) {
+            List<UserResponseDto> users = userRepository.findResponsesAfter(lastUserIndex, Limit.of(pageSize + 1));
+            return toPage(users, pageSize, UserResponseDto::getUserIndex);
+        }
+        List<Map<String, Object>> users = userRepository.findFieldsAfter(selected, lastUserIndex, pageSize + 1);
+        return toPage(users, pageSize, row -> (Long) row.get(UserField.USER_INDEX.getProperty()));
     }
 
-    public UserResponseDto getUserByUserId(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-        return new UserResponseDto(user);
+    private <T> UserPageResponseDto<T> toPage(List<T> users, int pageSize, Function<T, Long> userIndexOf) {
+        boolean hasNext = users.size() > pageSize;
+        List<T> page = hasNext ? users.subList(0, pageSize) : users;
+
+        String nextCursor = hasNext ? encodeCursor(userIndexOf.apply(page.get(page.size() - 1))) : null;
+        return new UserPageResponseDto<>(page, nextCursor, hasNext);
     }
 
-    @Transactional
-    public UserResponseDto createUser(UserRequestDto requestDto) {
-        if (userRepository.existsByUserId(requestDto.getUserId())) {
-            throw new DuplicateResourceException("이미 존재하는 아이디입니다");
+    // 전체 사용자를 출력 스트림에 바로 기록 (fields 를 지정하면 해당 컬럼만)
+    // 프로젝션을 한 건씩 읽고 바로 쓰므로 영속성 컨텍스트에 쌓이지 않아 힙 사용량이 일정
+    public void exportUsers(OutputStream outputStream, String fields, ExportFormat format) throws IOException {
+        List<UserField> selected = parseFields(fields);
+
+        try (Stream<?> users = selected == null
+                ? userRepository.streamAllResponses()
+                : userRepository.streamFields(selected)) {
+            if (format == ExportFormat.SMILE) {
+                writeSmile(users.iterator(), outputStream);
+            } else {
+                writeNdjson(users.iterator(), outputStream);
+            }
         }
+        outputStream.flush();
+    }
 
-        if (userRepository.existsByPhone(requestDto.getPhone())) {
-            throw new DuplicateResourceException("이미 존재하는 전화번호입니다");
+    private void writeNdjson(Iterator<?> users, OutputStream outputStream) throws IOException {
+        int count = 0;
+        while (users.hasNext()) {
+            outputStream.write(objectMapper.writeValueAsBytes(users.next()));
+            outputStream.write('\n');
+
+            if (++count % EXPORT_FLUSH_SIZE == 0) {
+                outputStream.flush();
+            }
         }
+    }
+
+    // 생성기 하나로 전체를 기록해야 반복되는 필드명이 앞선 값을 가리키는 1바이트 참조로 바뀜
+    private void writeSmile(Iterator<?> users, OutputStream outputStream) {
+        try (SequenceWriter writer = SMILE_MAPPER.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)  // 응답 스트림은 컨테이너가 닫음
+                .writeValues(outputStream)) {
+            int count = 0;
+            while (users.hasNext()) {
+                writer.write(users.next());
 
-        if (requestDto.getEmail() != null && !requestDto.getEmail().isEmpty()) {
-            if (userRepository.existsByEmail(requestDto.getEmail())) {
-                throw new DuplicateResourceException("이미 존재하는 이메일입니다");
+                if (++count % EXPORT_FLUSH_SIZE == 0) {
+                    writer.flush();
+                }
             }
         }
+    }
+
+    // "userId,name" → [USER_INDEX, USER_ID, NAME] (지정하지 않으면 null = 전체 필드)
+    private List<UserField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<UserField> selected = new LinkedHashSet<>();
+        selected.add(UserField.USER_INDEX);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            selected.add(UserField.fromProperty(property)
+                    .orElseThrow(() -> new BadRequestException("알 수 없는 필드입니다: " + property)));
+        }
+        return List.copyOf(selected);
+    }
+
+    // 캐시 우선 조회 (없으면 DB 조회 후 캐시에 저장)
+    // 방금 수정된 사용자는 레플리카에 아직 반영되지 않았을 수 있으므로 sticky 기간 동안 캐시에 넣지 않음
+    // (조회하는 사람이 누구든 대상 사용자 기준)
+    public UserResponseDto getUserById(Long userIndex) {
+        if (readYourWritesTracker.isSticky(userIndex)) {
+            return findUserResponse(userIndex);
+        }
+        return userCache.getByUserIndex(userIndex, this::findUserResponse);
+    }
+
+    // 조건부 조회(ETag)용 수정 시각: 캐시에 있으면 DB 조회 없음, 없으면 updated_at 한 컬럼만 조회
+    public Optional<LocalDateTime> getUserUpdatedAt(Long userIndex) {
+        UserResponseDto cached = userCache.getIfPresent(userIndex);
+        if (cached != null) {
+            return Optional.ofNullable(cached.getUpdatedAt());
+        }
+        return userRepository.findUpdatedAtByUserIndex(userIndex);
+    }
+
+    private UserResponseDto findUserResponse(Long userIndex) {
+        return userRepository.findResponseByUserIndex(userIndex)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    }
+
+    @Transactional
+    public UserResponseDto createUser(UserRequestDto requestDto) {
+        userDuplicateChecker.check(requestDto.getUserId(), requestDto.getPhone(), requestDto.getEmail());
 
         User user = new User();
         user.setUserId(requestDto.getUserId());
@@ -65,8 +184,13 @@ public class UserService {
         user.setPhone(requestDto.getPhone());
         user.setEmail(requestDto.getEmail());
 
-        User savedUser = userRepository.save(user);
-        return new UserResponseDto(savedUser);
+        try {
+            User savedUser = userRepository.saveAndFlush(user);
+            userCache.evictAfterCommit(savedUser.getUserIndex());
+            return new UserResponseDto(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            throw userDuplicateChecker.translate(e);
+        }
     }
 
     @Transactional
@@ -76,26 +200,31 @@ public class UserService {
         User user = userRepository.findById(userIndex)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
+        // 변경된 전화번호/이메일만 한 번의 조회로 중복 검사
+        boolean phoneChanged = !user.getPhone().equals(requestDto.getPhone());
+        boolean hasEmail = requestDto.getEmail() != null && !requestDto.getEmail().isEmpty();
+        boolean emailChanged = hasEmail && !requestDto.getEmail().equals(user.getEmail());
+
+        userDuplicateChecker.check(
+                null,
+                phoneChanged ? requestDto.getPhone() : null,
+                emailChanged ? requestDto.getEmail() : null
+        );
+
         user.setName(requestDto.getName());
         user.setGender(requestDto.getGender());
+        user.setPhone(requestDto.getPhone());
+        user.setEmail(hasEmail ? requestDto.getEmail() : null);
 
-        if (!user.getPhone().equals(requestDto.getPhone())) {
-            if (userRepository.existsByPhone(requestDto.getPhone())) {
-                throw new DuplicateResourceException("이미 존재하는 전화번호입니다");
-            }
-            user.setPhone(requestDto.getPhone());
+        try {
+            userRepository.flush();  // 제약조건 위반을 여기서 감지
+        } catch (DataIntegrityViolationException e) {
+            throw userDuplicateChecker.translate(e);
         }
 
-        if (requestDto.getEmail() != null && !requestDto.getEmail().isEmpty()) {
-            if (!requestDto.getEmail().equals(user.getEmail())) {
-                if (userRepository.existsByEmail(requestDto.getEmail())) {
-                    throw new DuplicateResourceException("이미 존재하는 이메일입니다");
-                }
-                user.setEmail(requestDto.getEmail());
-            }
-        } else {
-            user.setEmail(null);
-        }
+        // 커밋 후 대상 사용자 기록 → 무효화 순서 (레플리카의 이전 값이 다시 캐시되지 않도록)
+        readYourWritesTracker.markWriteAfterCommit(userIndex);
+        userCache.evictAfterCommit(userIndex);
 
         return new UserResponseDto(user);
     }
@@ -104,20 +233,41 @@ public class UserService {
     public void deleteUser(Long userIndex) {
         validateUserOwnership(userIndex);
 
-        if (!userRepository.existsById(userIndex)) {
-            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+        // 엔티티로 삭제해 2차 캐시에서 이 사용자 항목만 제거 (JPQL bulk DELETE 는 users region 전체를 비움)
+        // 조회는 대부분 2차 캐시에서 처리
+        User user = userRepository.findById(userIndex)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        userRepository.delete(user);
+
+        // 재발급은 사용자 테이블을 보지 않으므로 탈퇴 시 리프레시 토큰도 함께 삭제
+        refreshTokenRepository.deleteByUserIndex(userIndex);
+        tokenDenylist.revokeUser(userIndex);
+
+        readYourWritesTracker.markWriteAfterCommit(userIndex);
+        userCache.evictAfterCommit(userIndex);
+    }
+
+    // 커서는 클라이언트가 해석하지 않도록 마지막 user_index 를 Base64(URL-safe)로 인코딩
+    private String encodeCursor(Long userIndex) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(userIndex.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다");
         }
-        userRepository.deleteById(userIndex);
     }
 
+    // 토큰의 userIndex 와 대상 userIndex 를 메모리에서 비교 (DB 조회 없음)
     private void validateUserOwnership(Long userIndex) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUserId = (String) authentication.getPrincipal();
-
-        User targetUser = userRepository.findById(userIndex)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        AuthenticatedUser currentUser = (AuthenticatedUser) authentication.getPrincipal();
 
-        if (!targetUser.getUserId().equals(currentUserId)) {
+        if (!currentUser.userIndex().equals(userIndex)) {
             throw new ForbiddenException("본인의 정보만 수정/삭제할 수 있습니다");
         }
     }
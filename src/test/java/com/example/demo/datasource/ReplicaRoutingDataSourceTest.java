@@ -0,0 +1,108 @@
+package com.example.demo.datasource;
+
+import com.example.demo.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 메모리 H2 두 개를 primary / replica 로 사용해 readOnly 트랜잭션 분배와 read-your-writes 확인
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = embeddedDatabase("primary");
+        DataSource replica = embeddedDatabase("replica");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker("replica", Duration.ofMinutes(1), 1000);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, tracker, new SimpleMeterRegistry()));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalAccessUsePrimary() {
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStickToPrimaryOnlyForUserWhoCommittedWrite() {
+        authenticate(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update node set updated = true"));
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        authenticate(2L);
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotStick() {
+        authenticate(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("update node set updated = true");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String writeNode() {
+        return writeTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static void authenticate(Long userIndex) {
+        AuthenticatedUser user = new AuthenticatedUser(userIndex, "user" + userIndex, "session");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(16), updated boolean default false)");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로그아웃과 같은 초(JWT iat 정밀도)에 발급된 토큰도 차단되는지 확인
+class TokenDenylistTest {
+
+    private static final String SECRET = "test-secret-key-for-token-denylist-must-be-at-least-64-bytes-long-for-hs512!!";
+    private static final long ACCESS_EXPIRATION = 900_000;
+
+    private JwtUtil jwtUtil;
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(meterRegistry, SECRET, ACCESS_EXPIRATION, 604_800_000L);
+        tokenDenylist = new TokenDenylist(meterRegistry, ACCESS_EXPIRATION, 1000, "");
+    }
+
+    @Test
+    void sessionLogoutInSameSecondAsIssueRevokesToken() {
+        JwtClaims claims = issue(1L, "device-a");
+
+        tokenDenylist.revokeSession(1L, "device-a");
+
+        assertThat(tokenDenylist.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void secondPrecisionTokenFromSameSecondIsRevoked() {
+        // iat_ms 가 없는 이전 버전 토큰: 발급 시각이 로그아웃 시각의 초 단위 내림과 같음
+        Instant now = Instant.now();
+        JwtClaims claims = new JwtClaims("jti", "user1", 1L, "device-a",
+                now.truncatedTo(ChronoUnit.SECONDS), now.plusMillis(ACCESS_EXPIRATION));
+
+        tokenDenylist.revokeSession(1L, "device-a");
+
+        assertThat(tokenDenylist.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void userLogoutInSameSecondAsIssueRevokesAllSessions() {
+        JwtClaims first = issue(1L, "device-a");
+        JwtClaims second = issue(1L, "device-b");
+
+        tokenDenylist.revokeUser(1L);
+
+        assertThat(tokenDenylist.isRevoked(first)).isTrue();
+        assertThat(tokenDenylist.isRevoked(second)).isTrue();
+    }
+
+    @Test
+    void tokenIssuedAfterLogoutStaysValid() throws InterruptedException {
+        tokenDenylist.revokeSession(1L, "device-a");
+        Thread.sleep(2);  // 차단 시각과 다른 밀리초에 재로그인
+
+        assertThat(tokenDenylist.isRevoked(issue(1L, "device-a"))).isFalse();
+    }
+
+    @Test
+    void revokingOneSessionKeepsOtherSessionsAndUsers() {
+        JwtClaims otherSession = issue(1L, "device-b");
+        JwtClaims otherUser = issue(2L, "device-a");
+
+        tokenDenylist.revokeSession(1L, "device-a");
+
+        assertThat(tokenDenylist.isRevoked(otherSession)).isFalse();
+        assertThat(tokenDenylist.isRevoked(otherUser)).isFalse();
+    }
+
+    private JwtClaims issue(Long userIndex, String sessionId) {
+        String token = jwtUtil.generateAccessToken(userIndex, "user" + userIndex, sessionId);
+        return jwtUtil.verifyToken(token).orElseThrow();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.CaffeineUserCache;
+import com.example.demo.cache.UserCache;
+import com.example.demo.datasource.ReadYourWritesTracker;
+import com.example.demo.dto.UserRequestDto;
+import com.example.demo.dto.UserResponseDto;
+import com.example.demo.entity.User;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AuthenticatedUser;
+import com.example.demo.security.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 레플리카 사용 시: 다른 사용자가 방금 수정된 사용자를 조회해도 (레플리카의 이전 값일 수 있는) 결과를 캐시하지 않는지 확인
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new CaffeineUserCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void otherUserReadingJustUpdatedUserIsNotCached() {
+        UserService userService = userService("jdbc:h2:mem:replica");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "user0001", "이전이름")));
+        commitAs(1L, () -> userService.updateUser(1L, request("새이름")));
+
+        // 두 번째 사용자가 첫 번째 사용자를 조회 (레플리카에는 아직 이전 값)
+        authenticate(2L);
+        when(userRepository.findResponseByUserIndex(1L))
+                .thenReturn(Optional.of(response(1L, "user0001", "이전이름")));
+
+        userService.getUserById(1L);
+        userService.getUserById(1L);
+
+        verify(userRepository, times(2)).findResponseByUserIndex(1L);
+        assertThat(userCache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void unchangedUserIsCached() {
+        UserService userService = userService("jdbc:h2:mem:replica");
+        authenticate(2L);
+        when(userRepository.findResponseByUserIndex(3L))
+                .thenReturn(Optional.of(response(3L, "user0003", "그대로")));
+
+        userService.getUserById(3L);
+        userService.getUserById(3L);
+
+        verify(userRepository, times(1)).findResponseByUserIndex(3L);
+        assertThat(userCache.getIfPresent(3L)).isNotNull();
+    }
+
+    @Test
+    void withoutReplicaUpdatedUserIsCachedAgainRightAway() {
+        UserService userService = userService("");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "user0001", "이전이름")));
+        commitAs(1L, () -> userService.updateUser(1L, request("새이름")));
+
+        authenticate(2L);
+        when(userRepository.findResponseByUserIndex(1L))
+                .thenReturn(Optional.of(response(1L, "user0001", "새이름")));
+
+        userService.getUserById(1L);
+        userService.getUserById(1L);
+
+        verify(userRepository, times(1)).findResponseByUserIndex(1L);
+    }
+
+    private UserService userService(String replicaUrl) {
+        return new UserService(
+                userRepository,
+                mock(RefreshTokenRepository.class),
+                mock(UserDuplicateChecker.class),
+                userCache,
+                mock(TokenDenylist.class),
+                new ReadYourWritesTracker(replicaUrl, Duration.ofMinutes(1), 100),
+                null);
+    }
+
+    // 트랜잭션 안에서 실행 후 커밋된 것처럼 afterCommit 콜백 실행
+    private static void commitAs(Long userIndex, Runnable write) {
+        authenticate(userIndex);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            write.run();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void authenticate(Long userIndex) {
+        AuthenticatedUser user = new AuthenticatedUser(userIndex, String.format("user%04d", userIndex), "session");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static User user(Long userIndex, String userId, String name) {
+        User user = new User();
+        user.setUserIndex(userIndex);
+        user.setUserId(userId);
+        user.setName(name);
+        user.setGender("남성");
+        user.setPhone("010-0000-0001");
+        return user;
+    }
+
+    private static UserResponseDto response(Long userIndex, String userId, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return new UserResponseDto(userIndex, userId, name, "남성", "010-0000-0001", null, now, now);
+    }
+
+    private static UserRequestDto request(String name) {
+        UserRequestDto request = new UserRequestDto();
+        request.setName(name);
+        request.setGender("남성");
+        request.setPhone("010-0000-0001");
+        return request;
+    }
+}